@@ -0,0 +1,59 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Real-world sized payloads checked in under <code>src/main/resources/fixtures</code>.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public enum Fixtures {
+	/**
+	 * GET /repos/{owner}/{repo}/pulls/{number}/commits with 250 commits (about 1 MB).
+	 */
+	PULL_REQUEST_COMMITS("pull-request-commits-250.json"),
+	/**
+	 * GET /repos/{owner}/{repo}/commits/{sha} with 300 files and their patches (about 300 KB).
+	 */
+	COMMIT_FILES("commit-300-files.json"),
+	/**
+	 * ORDS resources/create response: the database description embedded as a JSON string.
+	 */
+	ORDS_CREATE("ords-create-response.json"),
+	/**
+	 * ORDS oauth/token response.
+	 */
+	ORDS_TOKEN("ords-token-response.json");
+
+	private final byte[] bytes;
+
+	Fixtures(final String name) {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("Fixture not found: " + name);
+			}
+			bytes = in.readAllBytes();
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	public byte[] bytes() {
+		return bytes;
+	}
+
+	public String text() {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
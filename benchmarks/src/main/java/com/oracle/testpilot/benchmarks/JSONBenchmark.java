@@ -0,0 +1,172 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.benchmarks;
+
+import com.oracle.testpilot.json.JSON;
+import com.oracle.testpilot.json.JSONSubscriber;
+import com.oracle.testpilot.model.Database;
+import com.oracle.testpilot.model.GitHubCommittedFiles;
+import com.oracle.testpilot.model.GitHubFilename;
+import com.oracle.testpilot.model.GitHubPullRequestCommits;
+import com.oracle.testpilot.model.OAuthToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and binding of the recorded payloads through each entry point of the JSON engine: tree parsing,
+ * binding from a String, from a byte[], from an InputStream and incrementally from response chunks.
+ * <p>
+ * Throughput and sampled latencies (p99 included) are reported; add <code>-prof gc</code> for the allocation
+ * rate, see <code>benchmarks/README.adoc</code>.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx256m"})
+public class JSONBenchmark {
+	// chunk size used by the HTTP client to deliver response bodies
+	private static final int CHUNK_SIZE = 16 * 1024;
+
+	private static final Flow.Subscription NO_BACK_PRESSURE = new Flow.Subscription() {
+		@Override
+		public void request(final long n) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+	};
+
+	private String commitsText;
+	private byte[] commitsBytes;
+	private String filesText;
+	private byte[] filesBytes;
+	private List<ByteBuffer> filesChunks;
+	private String createText;
+	private byte[] createBytes;
+	private List<ByteBuffer> createChunks;
+	private byte[] tokenBytes;
+
+	@Setup
+	public void setup() {
+		commitsText = Fixtures.PULL_REQUEST_COMMITS.text();
+		commitsBytes = Fixtures.PULL_REQUEST_COMMITS.bytes();
+		filesText = Fixtures.COMMIT_FILES.text();
+		filesBytes = Fixtures.COMMIT_FILES.bytes();
+		filesChunks = chunks(filesBytes);
+		createText = Fixtures.ORDS_CREATE.text();
+		createBytes = Fixtures.ORDS_CREATE.bytes();
+		createChunks = chunks(createBytes);
+		tokenBytes = Fixtures.ORDS_TOKEN.bytes();
+	}
+
+	// --- pull request commits list -----------------------------------------------------------------------------------
+
+	@Benchmark
+	public Object commitsTree() throws JSON.JSONParseException {
+		return JSON.parseJSON(commitsText);
+	}
+
+	@Benchmark
+	public GitHubPullRequestCommits[] commitsFromString() {
+		return new JSON<>(GitHubPullRequestCommits[].class).parse(commitsText);
+	}
+
+	@Benchmark
+	public GitHubPullRequestCommits[] commitsFromBytes() {
+		return new JSON<>(GitHubPullRequestCommits[].class).parse(commitsBytes);
+	}
+
+	@Benchmark
+	public GitHubPullRequestCommits[] commitsFromStream() {
+		return new JSON<>(GitHubPullRequestCommits[].class).parse(new ByteArrayInputStream(commitsBytes));
+	}
+
+	// --- commit details with 300 files -------------------------------------------------------------------------------
+
+	@Benchmark
+	public GitHubCommittedFiles filesFromString() {
+		return new JSON<>(GitHubCommittedFiles.class).parse(filesText);
+	}
+
+	@Benchmark
+	public GitHubCommittedFiles filesFromBytes() {
+		return new JSON<>(GitHubCommittedFiles.class).parse(filesBytes);
+	}
+
+	@Benchmark
+	public GitHubCommittedFiles filesFromStream() {
+		return new JSON<>(GitHubCommittedFiles.class).parse(new ByteArrayInputStream(filesBytes));
+	}
+
+	@Benchmark
+	public GitHubCommittedFiles filesFromChunks(final Blackhole blackhole) {
+		final JSONSubscriber<GitHubCommittedFiles> subscriber = new JSONSubscriber<>(GitHubCommittedFiles.class)
+				.onArrayElement("files", GitHubFilename.class, blackhole::consume);
+		return feed(subscriber, filesChunks);
+	}
+
+	// --- ORDS responses ----------------------------------------------------------------------------------------------
+
+	@Benchmark
+	public Database createFromString() {
+		return new JSON<>(Database.class).parse(createText);
+	}
+
+	@Benchmark
+	public Database createFromBytes() {
+		return new JSON<>(Database.class).parse(createBytes);
+	}
+
+	@Benchmark
+	public Database createFromChunks() {
+		return feed(new JSONSubscriber<>(Database.class), createChunks);
+	}
+
+	@Benchmark
+	public OAuthToken tokenFromStream() {
+		return new JSON<>(OAuthToken.class).parse(new ByteArrayInputStream(tokenBytes));
+	}
+
+	private static <T> T feed(final JSONSubscriber<T> subscriber, final List<ByteBuffer> chunks) {
+		subscriber.onSubscribe(NO_BACK_PRESSURE);
+		for (ByteBuffer chunk : chunks) {
+			subscriber.onNext(List.of(chunk.duplicate()));
+		}
+		subscriber.onComplete();
+		return subscriber.getResult();
+	}
+
+	private static List<ByteBuffer> chunks(final byte[] bytes) {
+		final List<ByteBuffer> chunks = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += CHUNK_SIZE) {
+			chunks.add(ByteBuffer.wrap(bytes, i, Math.min(CHUNK_SIZE, bytes.length - i)).slice().asReadOnlyBuffer());
+		}
+		return chunks;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.benchmarks;
+
+import com.oracle.testpilot.json.JSONWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding of the create/delete request body with the maximum number of users.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xmx256m"})
+public class JSONWriterBenchmark {
+	private static final String[] USERS = {"user_1", "user_2", "user_3", "user_4", "user_5", "user_6", "user_7", "user_8",
+			"user_9", "user_10"};
+
+	private final JSONWriter writer = new JSONWriter();
+
+	@Benchmark
+	public int resourceRequestBody() {
+		writer.reset()
+				.beginObject()
+				.name("runID").value("1234")
+				.name("type").value("db23ai")
+				.name("user").beginArray();
+		for (String user : USERS) {
+			writer.value(user);
+		}
+		return writer.endArray().endObject().size();
+	}
+}
@@ -0,0 +1,360 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates a dedicated <code>JSONBinder</code> for each class annotated with
+ * <code>com.oracle.testpilot.json.JSONBindable</code>, and registers all of them inside
+ * <code>META-INF/services/com.oracle.testpilot.json.JSONBinder</code>.
+ * <p>
+ * A JSON member is bound when the class declares a field with the same name along with a public setter
+ * <code>setName(Type)</code>, the very same rule as the reflective binder. Fields annotated with
+ * <code>com.oracle.testpilot.json.JSONEmbedded</code> are bound from the JSON document held by the member
+ * string.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@SupportedAnnotationTypes(JSONBinderProcessor.JSON_BINDABLE)
+public class JSONBinderProcessor extends AbstractProcessor {
+	static final String JSON_BINDABLE = "com.oracle.testpilot.json.JSONBindable";
+	static final String JSON_BINDER = "com.oracle.testpilot.json.JSONBinder";
+	static final String JSON_EMBEDDED = "com.oracle.testpilot.json.JSONEmbedded";
+	static final String BINDER_SUFFIX = "JSONBinder";
+
+	private final Set<String> generatedBinders = new TreeSet<>();
+
+	/**
+	 * A bound member: JSON name, setter name, setter parameter type and whether the member is a string
+	 * holding an embedded JSON document.
+	 */
+	private record Property(String name, String setter, TypeMirror type, boolean embedded) {
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					error(element, "@JSONBindable can only be used on classes");
+					continue;
+				}
+				generate((TypeElement) element);
+			}
+		}
+
+		if (roundEnv.processingOver() && !generatedBinders.isEmpty()) {
+			writeServiceRegistration();
+		}
+
+		return true;
+	}
+
+	private void generate(final TypeElement type) {
+		if (type.getNestingKind().isNested() || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			error(type, "@JSONBindable classes must be top level concrete classes");
+			return;
+		}
+		if (!hasPublicNoArgConstructor(type)) {
+			error(type, "@JSONBindable classes must declare a public constructor without parameter");
+			return;
+		}
+
+		final List<Property> properties = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+			if (field.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			final String name = field.getSimpleName().toString();
+			final String setter = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+			if (hasPublicSetter(type, setter, field.asType())) {
+				properties.add(new Property(name, setter, field.asType(), isEmbedded(field)));
+			}
+		}
+
+		final String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+		final String typeName = type.getSimpleName().toString();
+		final String binderName = typeName + BINDER_SUFFIX;
+		final String qualifiedBinderName = packageName.isEmpty() ? binderName : packageName + "." + binderName;
+
+		try {
+			final Writer source = processingEnv.getFiler().createSourceFile(qualifiedBinderName, type).openWriter();
+			try (PrintWriter out = new PrintWriter(source)) {
+				if (!packageName.isEmpty()) {
+					out.printf("package %s;%n%n", packageName);
+				}
+				out.println("import com.oracle.testpilot.json.JSON;");
+				out.println("import com.oracle.testpilot.json.JSONBinder;");
+				out.println("import com.oracle.testpilot.json.JSONBinders;");
+				out.println("import com.oracle.testpilot.json.JSONProjection;");
+				out.println("import com.oracle.testpilot.json.JSONReader;");
+				out.println();
+				out.println("import java.io.IOException;");
+				out.println("import java.util.Map;");
+				out.println();
+				out.printf("/**%n * JSON binder generated for {@link %s}, do not edit.%n */%n", typeName);
+				out.printf("@javax.annotation.processing.Generated(\"%s\")%n", getClass().getName());
+				out.printf("public final class %s implements JSONBinder<%s> {%n", binderName, typeName);
+				out.println();
+				out.println("\tprivate static final JSONProjection PROJECTION = JSONProjection.members(Map.ofEntries(");
+				for (int i = 0; i < properties.size(); i++) {
+					final Property property = properties.get(i);
+					out.printf("\t\t\tMap.entry(\"%s\", %s)%s%n", property.name(), projectionExpression(property), i < properties.size() - 1 ? "," : "");
+				}
+				out.println("\t));");
+				out.println();
+				out.printf("\tpublic %s() {%n\t}%n%n", binderName);
+
+				out.println("\t@Override");
+				out.printf("\tpublic Class<%1$s> type() {%n\t\treturn %1$s.class;%n\t}%n%n", typeName);
+
+				out.println("\t@Override");
+				out.println("\tpublic JSONProjection projection() {\n\t\treturn PROJECTION;\n\t}\n");
+
+				out.println("\t@Override");
+				out.printf("\tpublic %s bind(final JSONReader reader) throws IOException, JSON.JSONParseException {%n", typeName);
+				out.printf("\t\tfinal %1$s ret = new %1$s();%n", typeName);
+				out.println("\t\treader.beginObject();");
+				out.println("\t\twhile (reader.hasNext()) {");
+				out.println("\t\t\tswitch (reader.nextName()) {");
+				for (Property property : properties) {
+					final String read = readExpression(type, property);
+					if (read != null) {
+						out.printf("\t\t\t\tcase \"%s\" -> ret.%s(%s);%n", property.name(), property.setter(), unboxed(typeName, property, read));
+					}
+				}
+				out.println("\t\t\t\tdefault -> reader.skipValue();");
+				out.println("\t\t\t}");
+				out.println("\t\t}");
+				out.println("\t\treader.endObject();");
+				out.println("\t\treturn ret;");
+				out.println("\t}");
+				out.println();
+
+				out.println("\t@Override");
+				out.printf("\tpublic %s bind(final Map<Object, Object> parsed) throws JSON.JSONParseException {%n", typeName);
+				out.printf("\t\tfinal %1$s ret = new %1$s();%n", typeName);
+				out.println("\t\tfor (Map.Entry<Object, Object> e : parsed.entrySet()) {");
+				out.println("\t\t\tswitch (String.valueOf(e.getKey())) {");
+				for (Property property : properties) {
+					final String convert = convertExpression(property);
+					if (convert != null) {
+						out.printf("\t\t\t\tcase \"%s\" -> ret.%s(%s);%n", property.name(), property.setter(), unboxed(typeName, property, convert));
+					}
+				}
+				out.println("\t\t\t\tdefault -> {");
+				out.println("\t\t\t\t}");
+				out.println("\t\t\t}");
+				out.println("\t\t}");
+				out.println("\t\treturn ret;");
+				out.println("\t}");
+				out.println("}");
+			}
+			generatedBinders.add(qualifiedBinderName);
+		}
+		catch (IOException ioe) {
+			error(type, "Unable to generate " + qualifiedBinderName + ": " + ioe.getMessage());
+		}
+	}
+
+	/**
+	 * Returns the expression reading the value of the given property from a <code>JSONReader</code> named
+	 * <code>reader</code>, or null if the property type is not supported.
+	 */
+	private String readExpression(final TypeElement type, final Property property) {
+		final TypeMirror t = property.type();
+		if (property.embedded()) {
+			if (t.getKind() != TypeKind.DECLARED) {
+				error(type, "@JSONEmbedded member " + property.name() + " must be of a class type: " + t);
+				return null;
+			}
+			return String.format("JSONBinders.readEmbedded(reader, JSONBinders.get(%s.class))", erasure(t));
+		}
+		if (t.getKind() == TypeKind.ARRAY) {
+			final TypeMirror component = ((ArrayType) t).getComponentType();
+			if (component.getKind() != TypeKind.DECLARED) {
+				error(type, "Unsupported array type for member " + property.name() + ": " + t);
+				return null;
+			}
+			final String componentName = erasure(component);
+			return String.format("JSONBinders.readArray(reader, %1$s.class, %2$s)", componentName, elementBinder(componentName));
+		}
+
+		return switch (erasure(t)) {
+			case "java.lang.String" -> "JSONBinders.readString(reader)";
+			case "java.lang.Long", "long" -> "JSONBinders.readLong(reader)";
+			case "java.lang.Integer", "int" -> "JSONBinders.readInteger(reader)";
+			case "java.lang.Double", "double" -> "JSONBinders.readDouble(reader)";
+			case "java.lang.Boolean", "boolean" -> "JSONBinders.readBoolean(reader)";
+			case "java.lang.Object", "java.util.Map", "java.util.List" -> String.format("JSONBinders.cast(reader.readValue(), %s.class)", erasure(t));
+			default -> {
+				if (t.getKind() != TypeKind.DECLARED) {
+					error(type, "Unsupported type for member " + property.name() + ": " + t);
+					yield null;
+				}
+				yield String.format("JSONBinders.readObject(reader, JSONBinders.get(%s.class))", erasure(t));
+			}
+		};
+	}
+
+	/**
+	 * Values are read boxed: a JSON null given to a setter taking a primitive type is rejected with a parse
+	 * exception instead of a NullPointerException on unboxing.
+	 */
+	private static String unboxed(final String typeName, final Property property, final String expression) {
+		if (!property.type().getKind().isPrimitive()) {
+			return expression;
+		}
+		return String.format("JSONBinders.nonNull(%s, \"%s.%s\")", expression, typeName, property.name());
+	}
+
+	/**
+	 * Returns the expression converting the already parsed value <code>e.getValue()</code> of the given
+	 * property, or null if the property type is not supported.
+	 */
+	private String convertExpression(final Property property) {
+		final TypeMirror t = property.type();
+		if (property.embedded()) {
+			return t.getKind() == TypeKind.DECLARED ? String.format("JSONBinders.asEmbedded(e.getValue(), JSONBinders.get(%s.class))", erasure(t)) : null;
+		}
+		if (t.getKind() == TypeKind.ARRAY) {
+			final TypeMirror component = ((ArrayType) t).getComponentType();
+			if (component.getKind() != TypeKind.DECLARED) {
+				return null;
+			}
+			final String componentName = erasure(component);
+			return String.format("JSONBinders.asArray(e.getValue(), %1$s.class, %2$s)", componentName, elementBinder(componentName));
+		}
+
+		return switch (erasure(t)) {
+			case "java.lang.String" -> "JSONBinders.asString(e.getValue())";
+			case "java.lang.Long", "long" -> "JSONBinders.asLong(e.getValue())";
+			case "java.lang.Integer", "int" -> "JSONBinders.asInteger(e.getValue())";
+			case "java.lang.Double", "double" -> "JSONBinders.asDouble(e.getValue())";
+			case "java.lang.Boolean", "boolean" -> "JSONBinders.asBoolean(e.getValue())";
+			case "java.lang.Object", "java.util.Map", "java.util.List" -> String.format("JSONBinders.cast(e.getValue(), %s.class)", erasure(t));
+			default -> t.getKind() == TypeKind.DECLARED ? String.format("JSONBinders.asObject(e.getValue(), JSONBinders.get(%s.class))", erasure(t)) : null;
+		};
+	}
+
+	/**
+	 * Returns the expression of the projection of the given property: nested objects (alone or as array
+	 * elements) are restricted to the members their own binder needs, other values are kept entirely.
+	 */
+	private String projectionExpression(final Property property) {
+		final TypeMirror t = property.type();
+		if (property.embedded() && t.getKind() == TypeKind.DECLARED) {
+			return String.format("JSONProjection.embedded(JSONProjection.of(%s.class))", erasure(t));
+		}
+		if (t.getKind() == TypeKind.ARRAY) {
+			final TypeMirror component = ((ArrayType) t).getComponentType();
+			if (component.getKind() == TypeKind.DECLARED && !"null".equals(elementBinder(erasure(component)))) {
+				return String.format("JSONProjection.of(%s.class)", erasure(component));
+			}
+			return "JSONProjection.ALL";
+		}
+		if (t.getKind() == TypeKind.DECLARED && !"null".equals(elementBinder(erasure(t)))) {
+			return String.format("JSONProjection.of(%s.class)", erasure(t));
+		}
+		return "JSONProjection.ALL";
+	}
+
+	/**
+	 * Array elements being JSON objects are bound using their own binder, plain values are read as is.
+	 */
+	private static String elementBinder(final String componentName) {
+		return switch (componentName) {
+			case "java.lang.String", "java.lang.Long", "java.lang.Integer", "java.lang.Double", "java.lang.Boolean", "java.lang.Number",
+				 "java.lang.Object", "java.util.Map", "java.util.List" -> "null";
+			default -> String.format("JSONBinders.get(%s.class)", componentName);
+		};
+	}
+
+	private String erasure(final TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private static boolean isEmbedded(final VariableElement field) {
+		for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_EMBEDDED)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasPublicNoArgConstructor(final TypeElement type) {
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean hasPublicSetter(final TypeElement type, final String setter, final TypeMirror parameterType) {
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			if (method.getSimpleName().contentEquals(setter) && method.getModifiers().contains(Modifier.PUBLIC)
+					&& !method.getModifiers().contains(Modifier.STATIC) && method.getParameters().size() == 1
+					&& processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), parameterType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void writeServiceRegistration() {
+		try {
+			final FileObject services = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					"META-INF/services/" + JSON_BINDER);
+			try (PrintWriter out = new PrintWriter(services.openWriter())) {
+				for (String binder : generatedBinders) {
+					out.println(binder);
+				}
+			}
+		}
+		catch (IOException ioe) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to register JSON binders: " + ioe.getMessage());
+		}
+	}
+
+	private void error(final Element element, final String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+}
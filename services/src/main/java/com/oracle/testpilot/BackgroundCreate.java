@@ -0,0 +1,66 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a create request from a detached process running this program (<code>--create</code>), so that a
+ * <code>--create --no-wait</code> step returns while the database is provisioned: the create endpoint of the
+ * provisioning service only answers once the database exists.
+ * <p>
+ * The process outlives the step (the runner stops the processes left behind at the end of the job only) and
+ * records the outcome of the request in the journal of the job, where the <code>--await</code> step reads it.
+ * It writes no step output: its own output goes to a log file.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class BackgroundCreate {
+	// set at run time in native images
+	private static final String NATIVE_IMAGE_PROPERTY = "org.graalvm.nativeimage.imagecode";
+
+	private BackgroundCreate() {
+	}
+
+	/**
+	 * Starts the process.
+	 *
+	 * @param arguments   command line parameters of the process
+	 * @param environment environment variables of the step
+	 * @param log         file receiving the standard and error outputs of the process
+	 */
+	static Process start(final List<String> arguments, final Map<String, String> environment, final Path log) throws IOException {
+		final List<String> command = new ArrayList<>(command());
+		command.addAll(arguments);
+
+		final ProcessBuilder builder = new ProcessBuilder(command)
+				.redirectOutput(ProcessBuilder.Redirect.appendTo(log.toFile()))
+				.redirectErrorStream(true);
+		builder.environment().putAll(environment);
+		// the outputs of the step are closed once it returns
+		builder.environment().remove("GITHUB_OUTPUT");
+		final Process process = builder.start();
+		process.getOutputStream().close();
+		return process;
+	}
+
+	/**
+	 * The executable of the native image, or the JVM running the main class.
+	 */
+	private static List<String> command() {
+		if (System.getProperty(NATIVE_IMAGE_PROPERTY) != null) {
+			return List.of(ProcessHandle.current().info().command().orElseThrow(() -> new IllegalStateException("Executable path unknown")));
+		}
+		return List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+				"-cp", System.getProperty("java.class.path"), Main.class.getName());
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.model.Database;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Journal of the create requests of a job, so that a step run again (timeout, retried step) does not
+ * provision a second database: it reuses the recorded result, or resumes waiting for the request submitted
+ * before.
+ * <p>
+ * One file per request under <code>RUNNER_TEMP</code>, named after a hash of its run id, service type and
+ * users, readable by the owner only on POSIX file systems (it holds the database password). Each state is written to a temporary
+ * file, flushed to disk and renamed: a crash leaves either the previous state or the new one.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class CreateJournal {
+	private static final String IN_FLIGHT = "in-flight";
+	private static final String INTERRUPTED = "interrupted";
+	private static final String SUBMITTED = "submitted";
+	private static final String DONE = "done";
+
+	enum State {
+		/**
+		 * Request sent, response not received yet by the process which sent it, still running.
+		 */
+		IN_FLIGHT,
+		/**
+		 * Request sent but its response was never received: the database may have been provisioned.
+		 */
+		INTERRUPTED,
+		/**
+		 * Request accepted for asynchronous processing, status location known.
+		 */
+		SUBMITTED,
+		/**
+		 * Database provisioned.
+		 */
+		DONE
+	}
+
+	/**
+	 * Recorded state of a create request: status location if submitted, database once done, process sending
+	 * the request if in flight.
+	 */
+	record Entry(State state, String location, Database database, long pid) {
+	}
+
+	// null if disabled
+	private final Path directory;
+
+	/**
+	 * @param directory directory of the journal (typically <code>RUNNER_TEMP</code>), null to disable it
+	 */
+	CreateJournal(final String directory) {
+		this.directory = directory == null || directory.isEmpty() ? null : Path.of(directory);
+	}
+
+	/**
+	 * Returns the recorded state of the request, null if none.
+	 */
+	Entry get(final String runID, final String type, final String users) {
+		if (directory == null) {
+			return null;
+		}
+
+		try {
+			final List<String> lines = Files.readAllLines(file(runID, type, users), StandardCharsets.UTF_8);
+			if (lines.size() == 3 && lines.get(0).equals(IN_FLIGHT)) {
+				final long pid = Long.parseLong(lines.get(1));
+				// the response will never be received by a process gone in the meantime (step killed on timeout)
+				return new Entry(isRunning(pid, Long.parseLong(lines.get(2))) ? State.IN_FLIGHT : State.INTERRUPTED, null, null, pid);
+			}
+			if (lines.size() == 1 && lines.get(0).equals(INTERRUPTED)) {
+				return new Entry(State.INTERRUPTED, null, null, -1);
+			}
+			if (lines.size() == 2 && lines.get(0).equals(SUBMITTED)) {
+				return new Entry(State.SUBMITTED, lines.get(1), null, -1);
+			}
+			// a missing field would be output as an empty host, service or password: the request is resumed instead
+			if (lines.size() == 5 && lines.get(0).equals(DONE) && !lines.get(1).isEmpty() && !lines.get(2).isEmpty() && !lines.get(3).isEmpty()) {
+				final Database database = new Database();
+				database.setHost(lines.get(1));
+				database.setService(lines.get(2));
+				database.setPassword(lines.get(3));
+				database.setVersion(lines.get(4).isEmpty() ? null : lines.get(4));
+				return new Entry(State.DONE, null, database, -1);
+			}
+		}
+		catch (IOException | NumberFormatException ignored) {
+			// no usable state: the request is submitted again
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the file receiving the output of the process sending the request in the background (see
+	 * {@link BackgroundCreate}), null if the journal is disabled.
+	 */
+	Path log(final String runID, final String type, final String users) {
+		if (directory == null) {
+			return null;
+		}
+		final Path file = file(runID, type, users);
+		return file.resolveSibling(file.getFileName() + ".log");
+	}
+
+	/**
+	 * Records that the current process is about to send a request: run again while the request is in flight,
+	 * or after it, the step must not send a second one (a new provisioning cycle would start).
+	 */
+	void inFlight(final String runID, final String type, final String users) {
+		final ProcessHandle current = ProcessHandle.current();
+		write(runID, type, users, IN_FLIGHT + "\n" + current.pid() + "\n" + startMillis(current) + "\n");
+	}
+
+	/**
+	 * Records that the response of the request sent will never be received.
+	 */
+	void interrupted(final String runID, final String type, final String users) {
+		write(runID, type, users, INTERRUPTED + "\n");
+	}
+
+	/**
+	 * Records the status location of a request accepted for asynchronous processing.
+	 */
+	void submitted(final String runID, final String type, final String users, final String location) {
+		write(runID, type, users, SUBMITTED + "\n" + location + "\n");
+	}
+
+	/**
+	 * Records the database provisioned for a request, unless its host, service or password is missing (the
+	 * step run again then resumes the request instead of reusing an incomplete result).
+	 */
+	void done(final String runID, final String type, final String users, final Database database) {
+		if (!isRecordable(database.getHost()) || !isRecordable(database.getService()) || !isRecordable(database.getPassword())
+				|| (database.getVersion() != null && database.getVersion().indexOf('\n') >= 0)) {
+			return;
+		}
+		write(runID, type, users, String.join("\n", DONE, database.getHost(), database.getService(), database.getPassword(),
+				database.getVersion() == null ? "" : database.getVersion()) + "\n");
+	}
+
+	/**
+	 * One line, not empty.
+	 */
+	private static boolean isRecordable(final String value) {
+		return value != null && !value.isEmpty() && value.indexOf('\n') < 0;
+	}
+
+	/**
+	 * Forgets a request, once its database is de-provisioned.
+	 */
+	void remove(final String runID, final String type, final String users) {
+		if (directory == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file(runID, type, users));
+		}
+		catch (IOException ignored) {
+			// a later create would reuse the removed database: at worst it fails to connect
+		}
+	}
+
+	private void write(final String runID, final String type, final String users, final String content) {
+		if (directory == null) {
+			return;
+		}
+
+		final Path file = file(runID, type, users);
+		try {
+			final Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+			Files.deleteIfExists(temporary);
+			final Set<StandardOpenOption> options = Set.of(StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+			try (FileChannel channel = file.getFileSystem().supportedFileAttributeViews().contains("posix")
+					? FileChannel.open(temporary, options, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+					: FileChannel.open(temporary, options)) {
+				final ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(true);
+			}
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ignored) {
+			// the journal is best effort: the step still provisions the database
+		}
+	}
+
+	/**
+	 * The start time tells a process from a later one having reused its pid.
+	 */
+	private static boolean isRunning(final long pid, final long startMillis) {
+		return ProcessHandle.of(pid)
+				.filter(ProcessHandle::isAlive)
+				.filter(process -> startMillis < 0 || startMillis(process) < 0 || startMillis(process) == startMillis)
+				.isPresent();
+	}
+
+	private static long startMillis(final ProcessHandle process) {
+		return process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+	}
+
+	/**
+	 * Users are a set: their order does not identify another request.
+	 */
+	private Path file(final String runID, final String type, final String users) {
+		final String[] sortedUsers = users.split(",");
+		Arrays.sort(sortedUsers);
+		return directory.resolve("testpilot-create-" + hash(runID + '\n' + type + '\n' + String.join(",", sortedUsers)));
+	}
+
+	private static String hash(final String value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)), 0, 16);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+}
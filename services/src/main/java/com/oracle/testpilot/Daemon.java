@@ -0,0 +1,284 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Long-lived process serving the requests of the steps running on the same host over a Unix domain socket:
+ * the engine (HTTP connections, access token, caches) stays warm from one step to the next.
+ * <p>
+ * A step started with {@link #SOCKET_VARIABLE} set forwards its command line parameters, working directory
+ * and per-step environment variables ({@link #FORWARDED_VARIABLES}) to the daemon, which runs the session on
+ * a virtual thread and streams its output back, then its exit status. The credentials of the provisioning
+ * service are the ones of the daemon: they never go through the socket, whose file is readable and
+ * writable by its owner only.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class Daemon {
+	static final String SOCKET_VARIABLE = "TESTPILOT_DAEMON_SOCKET";
+
+	// per-step variables (see Session), the other ones are read once by the daemon (see Engine)
+	static final String[] FORWARDED_VARIABLES = {"GITHUB_OUTPUT", "RUNID", "RUNNER_TEMP"};
+
+	// maximum time given to the requests being served when the daemon is stopped
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+	private static final int MAGIC = 0x54504431; // TPD1
+
+	// frames sent by the daemon: output chunks, then the exit status
+	private static final byte EXIT = 0;
+	private static final byte STDOUT = 1;
+	private static final byte STDERR = 2;
+
+	private Daemon() {
+	}
+
+	/**
+	 * Serves the requests until the process is stopped (SIGTERM).
+	 */
+	static void serve(final Path socket) throws IOException {
+		if (isListening(socket)) {
+			throw new IOException("A daemon is already listening on " + socket);
+		}
+		// left behind by a daemon killed abruptly
+		Files.deleteIfExists(socket);
+
+		final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		// counted down once the requests being served have completed
+		final CountDownLatch stopped = new CountDownLatch(1);
+		try (server;
+			 Engine engine = new Engine(System.getenv());
+			 ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			bind(server, socket);
+
+			// the JVM halts as soon as the hook returns: it stops accepting requests, then waits for the
+			// ones being served (closing the executor) at most SHUTDOWN_TIMEOUT
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+				try {
+					server.close();
+					if (!stopped.await(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+						System.err.println("Daemon stopped before the requests being served completed");
+					}
+					Files.deleteIfExists(socket);
+				}
+				catch (IOException | InterruptedException ignored) {
+				}
+			}));
+
+			System.out.println("Daemon listening on " + socket);
+			while (true) {
+				final SocketChannel channel;
+				try {
+					channel = server.accept();
+				}
+				catch (ClosedChannelException cce) {
+					// shutting down: closing the executor waits for the requests being served
+					break;
+				}
+				executor.submit(() -> handle(engine, channel));
+			}
+		}
+		finally {
+			stopped.countDown();
+		}
+	}
+
+	/**
+	 * Binds the socket in a private directory beside its path, restricts it to its owner, then moves it into
+	 * place: it is never reachable with the permissions given by the umask. The daemon holds the credentials of
+	 * the provisioning service: it refuses to serve on a file system where the socket cannot be restricted.
+	 */
+	private static void bind(final ServerSocketChannel server, final Path socket) throws IOException {
+		if (!socket.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			throw new IOException("The daemon socket " + socket + " requires a POSIX file system to be restricted to its owner");
+		}
+		final Path directory = Files.createTempDirectory(socket.toAbsolutePath().getParent(), ".testpilot-",
+				PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+		try {
+			final Path bound = directory.resolve(socket.getFileName());
+			server.bind(UnixDomainSocketAddress.of(bound));
+			Files.setPosixFilePermissions(bound, PosixFilePermissions.fromString("rw-------"));
+			Files.move(bound, socket, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(directory.resolve(socket.getFileName()));
+			Files.delete(directory);
+		}
+	}
+
+	private static boolean isListening(final Path socket) {
+		try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+			return channel.isConnected();
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static void handle(final Engine engine, final SocketChannel channel) {
+		try (channel) {
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			if (in.readInt() != MAGIC) {
+				return;
+			}
+			final Path workingDirectory = Path.of(in.readUTF());
+			final String[] args = new String[in.readInt()];
+			for (int i = 0; i < args.length; i++) {
+				args[i] = in.readUTF();
+			}
+			final Map<String, String> environment = new HashMap<>();
+			for (int i = in.readInt(); i > 0; i--) {
+				environment.put(in.readUTF(), in.readUTF());
+			}
+
+			final DataOutputStream response = new DataOutputStream(Channels.newOutputStream(channel));
+			// a lock rather than synchronized: the frames are written by virtual threads
+			final ReentrantLock responseLock = new ReentrantLock();
+			final PrintStream out = new PrintStream(new FrameOutputStream(response, responseLock, STDOUT), true, StandardCharsets.UTF_8);
+			final PrintStream err = new PrintStream(new FrameOutputStream(response, responseLock, STDERR), true, StandardCharsets.UTF_8);
+
+			int exitStatus;
+			try {
+				exitStatus = Main.execute(engine, args, environment, workingDirectory, out, err);
+			}
+			catch (RuntimeException e) {
+				// as an uncaught exception would do, without stopping the daemon
+				e.printStackTrace(err);
+				exitStatus = 1;
+			}
+			out.flush();
+			err.flush();
+
+			responseLock.lock();
+			try {
+				response.writeByte(EXIT);
+				response.writeInt(exitStatus);
+				response.flush();
+			}
+			finally {
+				responseLock.unlock();
+			}
+		}
+		catch (IOException ignored) {
+			// client gone
+		}
+	}
+
+	/**
+	 * Forwards the step to the daemon and copies its output.
+	 *
+	 * @return the exit status of the step, null if no daemon listens on the socket
+	 */
+	static Integer forward(final Path socket, final String[] args, final Map<String, String> environment, final Path workingDirectory) throws IOException {
+		final SocketChannel channel;
+		try {
+			channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+		}
+		catch (SocketException se) {
+			// no socket file, or nobody listening on it
+			return null;
+		}
+
+		try (channel) {
+			final DataOutputStream request = new DataOutputStream(Channels.newOutputStream(channel));
+			request.writeInt(MAGIC);
+			request.writeUTF(workingDirectory.toString());
+			request.writeInt(args.length);
+			for (String arg : args) {
+				request.writeUTF(arg);
+			}
+			final Map<String, String> forwarded = new HashMap<>();
+			for (String name : FORWARDED_VARIABLES) {
+				if (environment.get(name) != null) {
+					forwarded.put(name, environment.get(name));
+				}
+			}
+			request.writeInt(forwarded.size());
+			for (Map.Entry<String, String> variable : forwarded.entrySet()) {
+				request.writeUTF(variable.getKey());
+				request.writeUTF(variable.getValue());
+			}
+			request.flush();
+
+			final DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+			while (true) {
+				final byte type = in.readByte();
+				if (type == EXIT) {
+					return in.readInt();
+				}
+				final byte[] chunk = new byte[in.readInt()];
+				in.readFully(chunk);
+				final PrintStream target = type == STDERR ? System.err : System.out;
+				target.write(chunk);
+				target.flush();
+			}
+		}
+	}
+
+	/**
+	 * Sends each write as a frame: type, length and bytes. Writes of the standard and error outputs of a
+	 * session are serialized on the response stream.
+	 */
+	private static final class FrameOutputStream extends OutputStream {
+		private final DataOutputStream response;
+		private final ReentrantLock responseLock;
+		private final byte type;
+
+		FrameOutputStream(final DataOutputStream response, final ReentrantLock responseLock, final byte type) {
+			this.response = response;
+			this.responseLock = responseLock;
+			this.type = type;
+		}
+
+		@Override
+		public void write(final int b) throws IOException {
+			write(new byte[]{(byte) b}, 0, 1);
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+			responseLock.lock();
+			try {
+				response.writeByte(type);
+				response.writeInt(len);
+				response.write(b, off, len);
+				response.flush();
+			}
+			finally {
+				responseLock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Body handler inflating <code>gzip</code> and <code>deflate</code> encoded responses, which the HTTP client
+ * does not do on its own. The requests must advertise {@link #ACCEPT_ENCODING}.
+ * <p>
+ * Each chunk is inflated as soon as it is received and passed on to the subscriber of the wrapped handler,
+ * so that a streaming JSON subscriber keeps parsing while the response arrives. Responses without a
+ * supported <code>Content-Encoding</code> are passed through untouched.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class DecompressingBodyHandler<T> implements HttpResponse.BodyHandler<T> {
+	static final String ACCEPT_ENCODING = "gzip, deflate";
+
+	private final HttpResponse.BodyHandler<T> handler;
+
+	private DecompressingBodyHandler(final HttpResponse.BodyHandler<T> handler) {
+		this.handler = handler;
+	}
+
+	static <T> HttpResponse.BodyHandler<T> of(final HttpResponse.BodyHandler<T> handler) {
+		return new DecompressingBodyHandler<>(handler);
+	}
+
+	@Override
+	public HttpResponse.BodySubscriber<T> apply(final HttpResponse.ResponseInfo responseInfo) {
+		final HttpResponse.BodySubscriber<T> subscriber = handler.apply(responseInfo);
+		return switch (responseInfo.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase()) {
+			case "gzip", "x-gzip" -> new InflatingSubscriber<>(subscriber, true);
+			case "deflate" -> new InflatingSubscriber<>(subscriber, false);
+			default -> subscriber;
+		};
+	}
+
+	/**
+	 * Inflates the chunks of the body, one inflated list of buffers for each received one: the demand of the
+	 * downstream subscriber is forwarded as is.
+	 */
+	private static final class InflatingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+		private static final int CHUNK_SIZE = 16 * 1024;
+
+		// gzip header (RFC 1952) parsing states
+		private static final int FIXED = 0;
+		private static final int EXTRA_LENGTH = 1;
+		private static final int EXTRA = 2;
+		private static final int NAME = 3;
+		private static final int COMMENT = 4;
+		private static final int HEADER_CRC = 5;
+		private static final int DONE = 6;
+
+		private static final int FHCRC = 2;
+		private static final int FEXTRA = 4;
+		private static final int FNAME = 8;
+		private static final int FCOMMENT = 16;
+
+		private final HttpResponse.BodySubscriber<T> downstream;
+		private final boolean gzip;
+		private final byte[] chunk = new byte[CHUNK_SIZE];
+
+		// created once the format is known (zlib or raw deflate stream)
+		private Inflater inflater;
+		private Flow.Subscription subscription;
+		private boolean received;
+		private boolean failed;
+
+		private int headerState;
+		private int headerCount;
+		private int flags;
+		private int extraLength;
+
+		InflatingSubscriber(final HttpResponse.BodySubscriber<T> downstream, final boolean gzip) {
+			this.downstream = downstream;
+			this.gzip = gzip;
+			this.headerState = gzip ? FIXED : DONE;
+		}
+
+		@Override
+		public CompletionStage<T> getBody() {
+			return downstream.getBody();
+		}
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+			downstream.onSubscribe(subscription);
+		}
+
+		@Override
+		public void onNext(final List<ByteBuffer> items) {
+			if (failed) {
+				return;
+			}
+
+			final List<ByteBuffer> inflated = new ArrayList<>();
+			try {
+				for (ByteBuffer item : items) {
+					received |= item.hasRemaining();
+					inflate(item, inflated);
+				}
+			}
+			catch (IOException | DataFormatException e) {
+				failed = true;
+				end();
+				subscription.cancel();
+				downstream.onError(e instanceof IOException ? e : new IOException("Invalid compressed response body", e));
+				return;
+			}
+			downstream.onNext(inflated);
+		}
+
+		private void inflate(final ByteBuffer item, final List<ByteBuffer> inflated) throws IOException, DataFormatException {
+			if (headerState != DONE) {
+				skipGzipHeader(item);
+			}
+			if (!item.hasRemaining() || headerState != DONE) {
+				return;
+			}
+
+			if (inflater == null) {
+				// gzip members and most deflate encoded bodies are zlib streams, some servers send raw deflate
+				inflater = new Inflater(gzip || !isZlibHeader(item.get(item.position())));
+			}
+			if (inflater.finished()) {
+				// gzip trailer (CRC-32 and size): the transport is already checked by TLS
+				item.position(item.limit());
+				return;
+			}
+
+			inflater.setInput(item);
+			while (!inflater.finished() && !inflater.needsInput()) {
+				final int length = inflater.inflate(chunk);
+				if (length > 0) {
+					inflated.add(ByteBuffer.wrap(Arrays.copyOf(chunk, length)));
+				}
+				else if (inflater.needsDictionary()) {
+					throw new IOException("Compressed response body requires a dictionary");
+				}
+			}
+			// inflater input is the item itself, no bytes of it are kept
+			item.position(item.limit());
+		}
+
+		private static boolean isZlibHeader(final byte first) {
+			// compression method 8 (deflate) and a window size up to 32K
+			return (first & 0x0F) == 8 && (first & 0xFF) >> 4 <= 7;
+		}
+
+		private void skipGzipHeader(final ByteBuffer item) throws IOException {
+			while (item.hasRemaining() && headerState != DONE) {
+				final int b = item.get() & 0xFF;
+				switch (headerState) {
+					case FIXED -> {
+						if ((headerCount == 0 && b != 0x1F) || (headerCount == 1 && b != 0x8B) || (headerCount == 2 && b != 8)) {
+							throw new IOException("Response body not in gzip format");
+						}
+						if (headerCount == 3) {
+							flags = b;
+						}
+						if (++headerCount == 10) {
+							nextHeaderState(FIXED);
+						}
+					}
+					case EXTRA_LENGTH -> {
+						extraLength |= b << (8 * headerCount);
+						if (++headerCount == 2) {
+							if (extraLength > 0) {
+								headerState = EXTRA;
+								headerCount = 0;
+							}
+							else {
+								nextHeaderState(EXTRA);
+							}
+						}
+					}
+					case EXTRA -> {
+						if (++headerCount == extraLength) {
+							nextHeaderState(EXTRA);
+						}
+					}
+					case NAME, COMMENT -> {
+						if (b == 0) {
+							nextHeaderState(headerState);
+						}
+					}
+					case HEADER_CRC -> {
+						if (++headerCount == 2) {
+							nextHeaderState(HEADER_CRC);
+						}
+					}
+					default -> throw new IllegalStateException();
+				}
+			}
+		}
+
+		private void nextHeaderState(final int current) {
+			headerCount = 0;
+			if (current < EXTRA_LENGTH && (flags & FEXTRA) != 0) {
+				headerState = EXTRA_LENGTH;
+			}
+			else if (current < NAME && (flags & FNAME) != 0) {
+				headerState = NAME;
+			}
+			else if (current < COMMENT && (flags & FCOMMENT) != 0) {
+				headerState = COMMENT;
+			}
+			else if (current < HEADER_CRC && (flags & FHCRC) != 0) {
+				headerState = HEADER_CRC;
+			}
+			else {
+				headerState = DONE;
+			}
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			end();
+			if (!failed) {
+				downstream.onError(throwable);
+			}
+		}
+
+		@Override
+		public void onComplete() {
+			if (failed) {
+				return;
+			}
+			// an empty body (HEAD, 304) has nothing to inflate
+			final boolean truncated = received && (inflater == null || !inflater.finished());
+			end();
+			if (truncated) {
+				downstream.onError(new IOException("Truncated compressed response body"));
+			}
+			else {
+				downstream.onComplete();
+			}
+		}
+
+		private void end() {
+			if (inflater != null) {
+				inflater.end();
+			}
+		}
+	}
+}
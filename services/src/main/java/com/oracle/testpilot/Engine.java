@@ -0,0 +1,118 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * State shared by the sessions of a process: HTTP client (connections kept alive), credentials of the
+ * provisioning service, access token and GitHub API responses caches. A single session uses it once, the
+ * daemon (see {@link Daemon}) for all the requests it serves.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class Engine implements AutoCloseable {
+
+	private static final int ONE_MINUTE_TIMEOUT = 60; // seconds
+
+	private final String apiHost;
+	private final String clientSecret;
+	private final String clientId;
+
+	// OAuth2 access token, reused until it expires, also across the steps of a job and shared by the services
+	// provisioned concurrently
+	private final TokenCache tokenCache;
+	private final ReentrantLock tokenLock = new ReentrantLock();
+
+	// GitHub API responses (ETag and compact result)
+	private final HttpCache httpCache;
+
+	private final HttpClient client;
+
+	public Engine(final Map<String, String> environment) {
+		// ---------------------------------------------------------------------------------------------------------------------
+		// API_HOST:
+		// URL targeting the private internal REST API endpoints to create and delete a user schema to be used to
+		// connect to the database to test the framework with. This environment variable is not exposed (read or write) to
+		// end users. It is also masked from standard GitHub Action log output.
+		apiHost = environment.get("API_HOST");
+		// ---------------------------------------------------------------------------------------------------------------------
+		// TESTPILOT_TOKEN:
+		// OAuth2 client secret to use for accessing the private internal REST API endpoints to create and delete a user schema.
+		// This environment variable is not exposed (read or write) to end users. It is also masked from standard GitHub Action log output.
+		clientSecret = environment.get("TESTPILOT_TOKEN");
+		// ---------------------------------------------------------------------------------------------------------------------
+		// TESTPILOT_CLIENT_ID:
+		// OAuth2 client id to use for accessing the private internal REST API endpoints to create and delete a user schema.
+		// This environment variable is not exposed (read or write) to end users. It is also masked from standard GitHub Action log output.
+		clientId = environment.get("TESTPILOT_CLIENT_ID");
+		// ---------------------------------------------------------------------------------------------------------------------
+		// RUNNER_TEMP:
+		// The path to a temporary directory on the runner. This directory is emptied at the beginning and end of each job.
+		// Access tokens are persisted there so that the steps of a job share them.
+		// see https://docs.github.com/en/actions/reference/workflows-and-actions/variables#default-environment-variables
+		tokenCache = new TokenCache(environment.get("RUNNER_TEMP"), apiHost, clientId);
+		// ---------------------------------------------------------------------------------------------------------------------
+		// TESTPILOT_CACHE_DIR, RUNNER_TOOL_CACHE:
+		// Directory where GitHub API responses are cached, to send conditional requests. RUNNER_TOOL_CACHE is kept between
+		// jobs on self-hosted runners. If none is set, responses are not cached.
+		final String cacheDirectory = environment.get("TESTPILOT_CACHE_DIR");
+		final String toolCache = environment.get("RUNNER_TOOL_CACHE");
+		httpCache = new HttpCache(cacheDirectory != null ? cacheDirectory : toolCache == null ? null : Path.of(toolCache, "testpilot").toString());
+
+		client = HttpClient
+				.newBuilder()
+				.connectTimeout(Duration.ofSeconds(ONE_MINUTE_TIMEOUT))
+				.version(HttpClient.Version.HTTP_2)
+				.proxy(ProxySelector.getDefault())
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.build();
+	}
+
+	String apiHost() {
+		return apiHost;
+	}
+
+	String clientSecret() {
+		return clientSecret;
+	}
+
+	String clientId() {
+		return clientId;
+	}
+
+	TokenCache tokenCache() {
+		return tokenCache;
+	}
+
+	/**
+	 * Lock held while an access token is requested: concurrent sessions wait for it instead of requesting their own.
+	 */
+	ReentrantLock tokenLock() {
+		return tokenLock;
+	}
+
+	HttpCache httpCache() {
+		return httpCache;
+	}
+
+	HttpClient client() {
+		return client;
+	}
+
+	@Override
+	public void close() {
+		httpCache.save();
+		client.close();
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent cache of GitHub API responses keyed by URL, used to send conditional requests
+ * (<code>If-None-Match</code>): a <code>304 Not Modified</code> response has no body and does not count
+ * against the rate limit.
+ * <p>
+ * Only the compact result extracted from a response is kept (file names, commit URLs...), along with its
+ * ETag and the URL of the next page. The least recently used entries are evicted once {@link #MAX_ENTRIES}
+ * is reached. The cache is loaded once and saved atomically by {@link #save()}; I/O errors only disable it.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class HttpCache {
+	static final int MAX_ENTRIES = 1024;
+
+	private static final int MAGIC = 0x54504843; // TPHC
+	private static final int VERSION = 1;
+
+	/**
+	 * Cached result of a URL.
+	 *
+	 * @param etag   entity tag of the response
+	 * @param next   URL of the next page, null if none
+	 * @param values compact result
+	 */
+	record Entry(String etag, String next, String[] values) {
+	}
+
+	// null if disabled
+	private final Path file;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private boolean modified;
+
+	/**
+	 * @param directory directory where the cache is persisted, null to disable caching
+	 */
+	HttpCache(final String directory) {
+		file = directory == null || directory.isEmpty() ? null : Path.of(directory, "testpilot-http-cache.bin");
+		load();
+	}
+
+	synchronized Entry get(final String url) {
+		return file == null ? null : entries.get(url);
+	}
+
+	synchronized void put(final String url, final Entry entry) {
+		if (file != null && entry.etag() != null) {
+			entries.put(url, entry);
+			modified = true;
+		}
+	}
+
+	/**
+	 * Persists the entries if modified. Concurrent jobs sharing the directory replace the file atomically:
+	 * the last one wins.
+	 */
+	synchronized void save() {
+		if (file == null || !modified) {
+			return;
+		}
+
+		try {
+			Files.createDirectories(file.getParent());
+			final Path temporary = Files.createTempFile(file.getParent(), "testpilot-http-cache", ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(entries.size());
+				// eldest first: the access order is restored when loading
+				for (Map.Entry<String, Entry> e : entries.entrySet()) {
+					out.writeUTF(e.getKey());
+					out.writeUTF(e.getValue().etag());
+					out.writeBoolean(e.getValue().next() != null);
+					if (e.getValue().next() != null) {
+						out.writeUTF(e.getValue().next());
+					}
+					out.writeInt(e.getValue().values().length);
+					for (String value : e.getValue().values()) {
+						out.writeUTF(value);
+					}
+				}
+			}
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			modified = false;
+		}
+		catch (IOException ignored) {
+			// the cache is an optimization only
+		}
+	}
+
+	private void load() {
+		if (file == null || !Files.isRegularFile(file)) {
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+			final int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				final String url = in.readUTF();
+				final String etag = in.readUTF();
+				final String next = in.readBoolean() ? in.readUTF() : null;
+				// not sized from the file: a corrupted count ends with an EOFException, not an OutOfMemoryError
+				final int count = in.readInt();
+				final List<String> values = new ArrayList<>();
+				for (int j = 0; j < count; j++) {
+					values.add(in.readUTF());
+				}
+				entries.put(url, new Entry(etag, next, values.toArray(new String[0])));
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			// corrupted or truncated: start again from an empty cache
+			entries.clear();
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.exception.TestPilotException;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.oracle.testpilot.exception.TestPilotException.DAEMON_SOCKET_ISSUE;
+
+/**
+ * Test services main entry point.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.0
+ */
+public class Main {
+
+	static {
+		Locale.setDefault(Locale.US);
+		System.setProperty("java.net.useSystemProxies", "false");
+	}
+
+	public static final String VERSION="1.0.22";
+
+	public static void main(final String[] args) {
+		final String socket = System.getenv(Daemon.SOCKET_VARIABLE);
+		final Path workingDirectory = Path.of("").toAbsolutePath();
+
+		try {
+			if (args.length == 1 && args[0].equalsIgnoreCase("--daemon")) {
+				if (socket == null || socket.isEmpty()) {
+					System.out.printf("%s must be set to the path of the daemon socket%n", Daemon.SOCKET_VARIABLE);
+					System.exit(DAEMON_SOCKET_ISSUE);
+				}
+				Daemon.serve(Path.of(socket));
+				System.exit(0);
+			}
+
+			if (socket != null && !socket.isEmpty()) {
+				final Integer exitStatus = Daemon.forward(Path.of(socket), args, System.getenv(), workingDirectory);
+				if (exitStatus != null) {
+					System.exit(exitStatus);
+				}
+				// no daemon listening: run in this process
+			}
+		}
+		catch (IOException ioe) {
+			System.out.printf("Daemon failed (%d)%n", DAEMON_SOCKET_ISSUE);
+			ioe.printStackTrace();
+			System.exit(DAEMON_SOCKET_ISSUE);
+		}
+
+		final int exitStatus;
+		try (Engine engine = new Engine(System.getenv())) {
+			exitStatus = execute(engine, args, System.getenv(), workingDirectory, System.out, System.err);
+		}
+
+		System.exit(exitStatus);
+	}
+
+	/**
+	 * Runs a session and returns its exit status.
+	 */
+	static int execute(final Engine engine, final String[] args, final Map<String, String> environment, final Path workingDirectory,
+					   final PrintStream out, final PrintStream err) {
+		int exitStatus = 0;
+
+		Session session = null;
+
+		try {
+			session = new Session(engine, args, environment, workingDirectory, out, err);
+			session.run();
+		}
+		catch (TestPilotException te) {
+			exitStatus = te.getErrorCode();
+			if (session != null) {
+				switch (session.action) {
+					case CREATE:
+						out.printf("Provisioning failed (%d)%n", exitStatus);
+						break;
+
+					case DELETE:
+						out.printf("De-provisioning failed (%d)%n", exitStatus);
+						break;
+
+					case SKIP_TESTING:
+						out.printf("Skip testing check failed (%d)%n", exitStatus);
+						break;
+
+					case AWAIT:
+						out.printf("Waiting for provisioning failed (%d)%n", exitStatus);
+						break;
+				}
+			}
+
+			//System.out.println("Error: " + te.getMessage());
+			te.printStackTrace(err);
+		}
+
+		return exitStatus;
+	}
+}
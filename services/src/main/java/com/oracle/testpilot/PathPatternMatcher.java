@@ -0,0 +1,401 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Matches paths against a list of patterns compiled once, in a time proportional to the path length
+ * whatever the number of patterns:
+ * <ul>
+ *     <li>a pattern without glob characters is a literal prefix (<code>docs/</code>, <code>README.md</code>),
+ *     all of them being stored in a single character trie;</li>
+ *     <li>a pattern containing <code>*</code>, <code>?</code> or <code>[</code> is a glob matching the whole
+ *     path: <code>*</code> matches any characters but <code>/</code>, <code>**</code> any characters,
+ *     <code>**&#47;</code> zero or more directories, <code>?</code> one character but <code>/</code>,
+ *     <code>[a-z]</code> and <code>[!a-z]</code> one character of (or not of) a set, <code>\</code> escapes
+ *     the next character (in globs only). All the globs are compiled into a single NFA, run as a DFA whose states are
+ *     built lazily, the first time they are reached.</li>
+ * </ul>
+ * The matcher is thread safe.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class PathPatternMatcher {
+	private final TrieNode trie = new TrieNode();
+	private final GlobAutomaton globs;
+
+	private PathPatternMatcher(final List<String> globs) {
+		this.globs = globs.isEmpty() ? null : new GlobAutomaton(globs);
+	}
+
+	/**
+	 * Compiles the patterns, empty ones being ignored.
+	 */
+	static PathPatternMatcher compile(final String... patterns) {
+		final List<String> globs = new ArrayList<>();
+		final List<String> prefixes = new ArrayList<>();
+		for (String pattern : patterns) {
+			if (pattern.isEmpty()) {
+				continue;
+			}
+			if (isGlob(pattern)) {
+				globs.add(pattern);
+			}
+			else {
+				prefixes.add(pattern);
+			}
+		}
+
+		final PathPatternMatcher matcher = new PathPatternMatcher(globs);
+		for (String prefix : prefixes) {
+			matcher.trie.add(prefix);
+		}
+		return matcher;
+	}
+
+	boolean matches(final String path) {
+		return trie.matchesPrefixOf(path) || (globs != null && globs.matches(path));
+	}
+
+	/**
+	 * A backslash alone does not make a glob: <code>docs\x</code> stays a prefix.
+	 */
+	private static boolean isGlob(final String pattern) {
+		for (int i = 0; i < pattern.length(); i++) {
+			final char c = pattern.charAt(i);
+			if (c == '*' || c == '?' || c == '[') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Character trie node, children being kept in small arrays sorted by character.
+	 */
+	private static final class TrieNode {
+		private char[] keys = new char[0];
+		private TrieNode[] children = new TrieNode[0];
+		// end of a prefix
+		private boolean terminal;
+
+		void add(final String prefix) {
+			TrieNode node = this;
+			for (int i = 0; i < prefix.length() && !node.terminal; i++) {
+				node = node.child(prefix.charAt(i));
+			}
+			// longer prefixes starting with this one are useless
+			node.terminal = true;
+			node.keys = new char[0];
+			node.children = new TrieNode[0];
+		}
+
+		private TrieNode child(final char c) {
+			int index = Arrays.binarySearch(keys, c);
+			if (index >= 0) {
+				return children[index];
+			}
+			index = -index - 1;
+			final TrieNode child = new TrieNode();
+			final int length = keys.length;
+			keys = Arrays.copyOf(keys, length + 1);
+			children = Arrays.copyOf(children, length + 1);
+			System.arraycopy(keys, index, keys, index + 1, length - index);
+			System.arraycopy(children, index, children, index + 1, length - index);
+			keys[index] = c;
+			children[index] = child;
+			return child;
+		}
+
+		boolean matchesPrefixOf(final String path) {
+			TrieNode node = this;
+			for (int i = 0; ; i++) {
+				if (node.terminal) {
+					return true;
+				}
+				if (i == path.length()) {
+					return false;
+				}
+				final int index = Arrays.binarySearch(node.keys, path.charAt(i));
+				if (index < 0) {
+					return false;
+				}
+				node = node.children[index];
+			}
+		}
+	}
+
+	/**
+	 * NFA of all the globs run as a lazily built DFA.
+	 */
+	private static final class GlobAutomaton {
+		// character classes of the NFA transitions
+		private static final int ANY = -1;
+		private static final int NOT_SLASH = -2;
+		// transitions on a set are encoded as -3 - index of the set
+		private static final int SET = -3;
+
+		// NFA: for each node, its transitions (symbol, target) and epsilon transitions
+		private final List<int[]> symbols = new ArrayList<>();
+		private final List<int[]> targets = new ArrayList<>();
+		private final List<int[]> epsilons = new ArrayList<>();
+		private final List<Boolean> accepting = new ArrayList<>();
+		private final List<CharSet> sets = new ArrayList<>();
+
+		// DFA states built so far, identified by their set of NFA nodes
+		private final Map<List<Integer>, DFAState> statesByNodes = new HashMap<>();
+		private final DFAState start;
+
+		GlobAutomaton(final List<String> globs) {
+			final int root = node();
+			for (String glob : globs) {
+				final int globStart = node();
+				epsilon(root, globStart);
+				compile(glob, globStart);
+			}
+			start = state(closure(new int[]{root}, 1));
+		}
+
+		synchronized boolean matches(final String path) {
+			DFAState state = start;
+			for (int i = 0; i < path.length(); i++) {
+				state = state.next(path.charAt(i));
+				if (state.dead) {
+					return false;
+				}
+			}
+			return state.accepting;
+		}
+
+		private void compile(final String glob, int current) {
+			for (int i = 0; i < glob.length(); i++) {
+				final char c = glob.charAt(i);
+				switch (c) {
+					case '*' -> {
+						if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+							i++;
+							if (i + 1 < glob.length() && glob.charAt(i + 1) == '/') {
+								i++;
+								// **/: zero or more directories
+								final int directory = node();
+								final int next = node();
+								epsilon(current, next);
+								transition(current, ANY, directory);
+								transition(directory, ANY, directory);
+								transition(directory, '/', next);
+								current = next;
+							}
+							else {
+								transition(current, ANY, current);
+							}
+						}
+						else {
+							transition(current, NOT_SLASH, current);
+						}
+					}
+					case '?' -> {
+						final int next = node();
+						transition(current, NOT_SLASH, next);
+						current = next;
+					}
+					case '[' -> {
+						final int end = glob.indexOf(']', i + 2);
+						if (end < 0) {
+							// not a set: literal character
+							current = literal(current, c);
+						}
+						else {
+							sets.add(new CharSet(glob.substring(i + 1, end)));
+							final int next = node();
+							transition(current, SET - (sets.size() - 1), next);
+							current = next;
+							i = end;
+						}
+					}
+					case '\\' -> current = literal(current, i + 1 < glob.length() ? glob.charAt(++i) : c);
+					default -> current = literal(current, c);
+				}
+			}
+			accepting.set(current, true);
+		}
+
+		private int literal(final int current, final char c) {
+			final int next = node();
+			transition(current, c, next);
+			return next;
+		}
+
+		private int node() {
+			symbols.add(new int[0]);
+			targets.add(new int[0]);
+			epsilons.add(new int[0]);
+			accepting.add(false);
+			return symbols.size() - 1;
+		}
+
+		private void transition(final int from, final int symbol, final int to) {
+			symbols.set(from, append(symbols.get(from), symbol));
+			targets.set(from, append(targets.get(from), to));
+		}
+
+		private void epsilon(final int from, final int to) {
+			epsilons.set(from, append(epsilons.get(from), to));
+		}
+
+		private static int[] append(final int[] array, final int value) {
+			final int[] result = Arrays.copyOf(array, array.length + 1);
+			result[array.length] = value;
+			return result;
+		}
+
+		private boolean accepts(final int symbol, final char c) {
+			if (symbol >= 0) {
+				return symbol == c;
+			}
+			return switch (symbol) {
+				case ANY -> true;
+				case NOT_SLASH -> c != '/';
+				default -> c != '/' && sets.get(SET - symbol).contains(c);
+			};
+		}
+
+		/**
+		 * Returns the sorted set of nodes reachable from the given ones using epsilon transitions.
+		 */
+		private int[] closure(final int[] nodes, final int count) {
+			final boolean[] reached = new boolean[symbols.size()];
+			final int[] stack = new int[symbols.size()];
+			int size = 0;
+			for (int i = 0; i < count; i++) {
+				final int node = nodes[i];
+				if (!reached[node]) {
+					reached[node] = true;
+					stack[size++] = node;
+				}
+			}
+			while (size > 0) {
+				for (int next : epsilons.get(stack[--size])) {
+					if (!reached[next]) {
+						reached[next] = true;
+						stack[size++] = next;
+					}
+				}
+			}
+
+			int reachedCount = 0;
+			for (boolean r : reached) {
+				if (r) {
+					reachedCount++;
+				}
+			}
+			final int[] result = new int[reachedCount];
+			for (int node = 0, i = 0; node < reached.length; node++) {
+				if (reached[node]) {
+					result[i++] = node;
+				}
+			}
+			return result;
+		}
+
+		private DFAState state(final int[] nodes) {
+			final List<Integer> key = Arrays.stream(nodes).boxed().toList();
+			DFAState state = statesByNodes.get(key);
+			if (state == null) {
+				boolean accept = false;
+				for (int node : nodes) {
+					accept |= accepting.get(node);
+				}
+				state = new DFAState(nodes, accept);
+				statesByNodes.put(key, state);
+			}
+			return state;
+		}
+
+		private final class DFAState {
+			private final int[] nodes;
+			private final boolean accepting;
+			private final boolean dead;
+			// transitions computed so far: ASCII characters in an array, others in a map
+			private final DFAState[] ascii = new DFAState[128];
+			private Map<Character, DFAState> others;
+
+			DFAState(final int[] nodes, final boolean accepting) {
+				this.nodes = nodes;
+				this.accepting = accepting;
+				this.dead = nodes.length == 0;
+			}
+
+			DFAState next(final char c) {
+				DFAState next = c < 128 ? ascii[c] : others == null ? null : others.get(c);
+				if (next == null) {
+					next = computeNext(c);
+					if (c < 128) {
+						ascii[c] = next;
+					}
+					else {
+						if (others == null) {
+							others = new HashMap<>();
+						}
+						others.put(c, next);
+					}
+				}
+				return next;
+			}
+
+			private DFAState computeNext(final char c) {
+				int[] reached = new int[nodes.length];
+				int count = 0;
+				for (int node : nodes) {
+					final int[] nodeSymbols = symbols.get(node);
+					final int[] nodeTargets = targets.get(node);
+					for (int i = 0; i < nodeSymbols.length; i++) {
+						if (accepts(nodeSymbols[i], c)) {
+							if (count == reached.length) {
+								reached = Arrays.copyOf(reached, count << 1);
+							}
+							reached[count++] = nodeTargets[i];
+						}
+					}
+				}
+				return state(closure(reached, count));
+			}
+		}
+	}
+
+	/**
+	 * Set of characters of a glob: <code>abc</code>, <code>a-z</code>, <code>!a-z</code> (negated).
+	 */
+	private static final class CharSet {
+		private final boolean negated;
+		private final String ranges;
+
+		CharSet(final String definition) {
+			negated = definition.startsWith("!") || definition.startsWith("^");
+			ranges = negated ? definition.substring(1) : definition;
+		}
+
+		boolean contains(final char c) {
+			boolean found = false;
+			for (int i = 0; i < ranges.length() && !found; i++) {
+				if (i + 2 < ranges.length() && ranges.charAt(i + 1) == '-') {
+					found = c >= ranges.charAt(i) && c <= ranges.charAt(i + 2);
+					i += 2;
+				}
+				else {
+					found = c == ranges.charAt(i);
+				}
+			}
+			return found != negated;
+		}
+	}
+}
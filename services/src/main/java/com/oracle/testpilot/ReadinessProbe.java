@@ -0,0 +1,211 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.exception.TestPilotException;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.oracle.testpilot.exception.TestPilotException.DATABASE_NOT_READY;
+
+/**
+ * Waits for a freshly provisioned database to accept connections: the listener may still be starting, or
+ * the service registering, when the provisioning service answers.
+ * <p>
+ * Each attempt is a non-blocking connect bounded by {@link #ATTEMPT_TIMEOUT}, followed by a TLS handshake
+ * for the endpoints requiring TLS (Autonomous Database). Failed attempts are retried with a jittered
+ * exponential backoff, up to the deadline.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class ReadinessProbe {
+	private static final Duration ATTEMPT_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration INITIAL_DELAY = Duration.ofMillis(500);
+	private static final Duration MAX_DELAY = Duration.ofSeconds(10);
+
+	private final Duration timeout;
+
+	/**
+	 * @param timeout maximum time to wait for the endpoint
+	 */
+	ReadinessProbe(final Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns once the endpoint accepts connections.
+	 *
+	 * @return the time it took
+	 * @throws TestPilotException if the endpoint is still not ready at the deadline
+	 */
+	Duration await(final String host, final int port, final boolean tls) throws InterruptedException {
+		final long start = System.nanoTime();
+		final long deadline = start + timeout.toNanos();
+		long delay = INITIAL_DELAY.toNanos();
+		IOException lastFailure;
+
+		while (true) {
+			try {
+				attempt(host, port, tls, Math.min(deadline, System.nanoTime() + ATTEMPT_TIMEOUT.toNanos()));
+				return Duration.ofNanos(System.nanoTime() - start);
+			}
+			catch (IOException | UnresolvedAddressException e) {
+				// DNS record not published yet, connection refused, handshake failed...
+				lastFailure = e instanceof IOException ioe ? ioe : new IOException("Unresolved host " + host, e);
+			}
+
+			final long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				throw new TestPilotException(DATABASE_NOT_READY,
+						new IllegalStateException(String.format("%s:%d not ready after %d seconds", host, port, timeout.toSeconds()), lastFailure));
+			}
+			// jitter: the probes of concurrent steps spread out
+			final long wait = Math.min(remaining, ThreadLocalRandom.current().nextLong(delay / 2, delay + 1));
+			Thread.sleep(Duration.ofNanos(wait));
+			delay = Math.min(delay * 2, MAX_DELAY.toNanos());
+		}
+	}
+
+	private static void attempt(final String host, final int port, final boolean tls, final long deadline) throws IOException {
+		try (SocketChannel channel = SocketChannel.open();
+			 Selector selector = Selector.open()) {
+			channel.configureBlocking(false);
+			if (!channel.connect(new InetSocketAddress(host, port))) {
+				waitFor(channel, selector, SelectionKey.OP_CONNECT, deadline);
+				channel.finishConnect();
+			}
+			if (tls) {
+				handshake(channel, selector, host, port, deadline);
+			}
+		}
+	}
+
+	/**
+	 * Performs a client TLS handshake over the non-blocking channel, then closes the session.
+	 */
+	private static void handshake(final SocketChannel channel, final Selector selector, final String host, final int port, final long deadline) throws IOException {
+		final SSLEngine engine;
+		try {
+			engine = SSLContext.getDefault().createSSLEngine(host, port);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IOException(nsae);
+		}
+		engine.setUseClientMode(true);
+
+		final ByteBuffer empty = ByteBuffer.allocate(0);
+		final ByteBuffer netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+		ByteBuffer netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+		ByteBuffer appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+
+		engine.beginHandshake();
+		SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
+		while (status != SSLEngineResult.HandshakeStatus.FINISHED && status != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING) {
+			switch (status) {
+				case NEED_WRAP -> {
+					netOut.clear();
+					final SSLEngineResult result = engine.wrap(empty, netOut);
+					netOut.flip();
+					write(channel, selector, netOut, deadline);
+					if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+						throw new EOFException("TLS session closed during the handshake");
+					}
+					status = engine.getHandshakeStatus();
+				}
+				case NEED_UNWRAP, NEED_UNWRAP_AGAIN -> {
+					netIn.flip();
+					final SSLEngineResult result = engine.unwrap(netIn, appIn);
+					netIn.compact();
+					switch (result.getStatus()) {
+						case BUFFER_UNDERFLOW -> {
+							// incomplete record
+							if (netIn.remaining() == 0) {
+								netIn = grow(netIn, engine.getSession().getPacketBufferSize());
+							}
+							read(channel, selector, netIn, deadline);
+						}
+						case BUFFER_OVERFLOW -> appIn = grow(appIn, engine.getSession().getApplicationBufferSize());
+						case CLOSED -> throw new EOFException("TLS session closed during the handshake");
+						default -> {
+						}
+					}
+					status = engine.getHandshakeStatus();
+				}
+				case NEED_TASK -> {
+					Runnable task;
+					while ((task = engine.getDelegatedTask()) != null) {
+						task.run();
+					}
+					status = engine.getHandshakeStatus();
+				}
+				default -> throw new IllegalStateException(status.toString());
+			}
+		}
+
+		// close_notify, best effort: the listener only logs an abrupt close
+		engine.closeOutbound();
+		netOut.clear();
+		engine.wrap(empty, netOut);
+		netOut.flip();
+		channel.write(netOut);
+	}
+
+	private static ByteBuffer grow(final ByteBuffer buffer, final int size) {
+		final ByteBuffer larger = ByteBuffer.allocate(buffer.position() + size);
+		buffer.flip();
+		return larger.put(buffer);
+	}
+
+	private static void write(final SocketChannel channel, final Selector selector, final ByteBuffer buffer, final long deadline) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.write(buffer) == 0) {
+				waitFor(channel, selector, SelectionKey.OP_WRITE, deadline);
+			}
+		}
+	}
+
+	private static void read(final SocketChannel channel, final Selector selector, final ByteBuffer buffer, final long deadline) throws IOException {
+		int read;
+		while ((read = channel.read(buffer)) == 0) {
+			waitFor(channel, selector, SelectionKey.OP_READ, deadline);
+		}
+		if (read < 0) {
+			throw new EOFException("Connection closed during the TLS handshake");
+		}
+	}
+
+	private static void waitFor(final SocketChannel channel, final Selector selector, final int operation, final long deadline) throws IOException {
+		final SelectionKey key = channel.keyFor(selector);
+		if (key == null) {
+			channel.register(selector, operation);
+		}
+		else {
+			key.interestOps(operation);
+		}
+
+		final long remaining = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+		if (remaining <= 0 || selector.select(remaining) == 0) {
+			throw new SocketTimeoutException("Timeout");
+		}
+		selector.selectedKeys().clear();
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.exception.TestPilotException;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.oracle.testpilot.exception.TestPilotException.RETRY_LIMIT_REACHED;
+
+/**
+ * Retry policy for HTTP calls: only the configured status codes are retried, using a capped exponential
+ * backoff with full jitter (the delay is drawn at random between 0 and the backoff) so that jobs rate
+ * limited together do not retry in lockstep. A <code>Retry-After</code> header sent by the server takes
+ * precedence over the backoff.
+ * <p>
+ * Retries stop after a maximum number of attempts or once the time budget would be exceeded:
+ * <pre>
+ * final RetryPolicy.Retry retry = policy.start();
+ * do {
+ *     response = send(...);
+ *     if (policy.retries(response.statusCode())) {
+ *         retry.backoff(response);
+ *     }
+ * } while (...);
+ * </pre>
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class RetryPolicy {
+	/**
+	 * Backoff of a retryable status code: the first retry waits at most <code>initialDelay</code>, the
+	 * following ones twice as long as the previous one up to <code>maxDelay</code>.
+	 */
+	record Rule(Duration initialDelay, Duration maxDelay) {
+	}
+
+	private final int maxAttempts;
+	private final Duration budget;
+	private final Map<Integer, Rule> rules = new HashMap<>();
+
+	RetryPolicy(final int maxAttempts, final Duration budget) {
+		this.maxAttempts = maxAttempts;
+		this.budget = budget;
+	}
+
+	/**
+	 * Retries the responses having the given status code.
+	 */
+	RetryPolicy retryOn(final int statusCode, final Duration initialDelay, final Duration maxDelay) {
+		rules.put(statusCode, new Rule(initialDelay, maxDelay));
+		return this;
+	}
+
+	boolean retries(final int statusCode) {
+		return rules.containsKey(statusCode);
+	}
+
+	/**
+	 * Starts retrying one operation: attempts and elapsed time are counted from now.
+	 */
+	Retry start() {
+		return new Retry();
+	}
+
+	final class Retry {
+		private final long startNanos = System.nanoTime();
+		private int attempts = 1;
+
+		private Retry() {
+		}
+
+		/**
+		 * Waits before the next attempt of a call having received a retryable response.
+		 *
+		 * @throws TestPilotException if the maximum number of attempts or the time budget is reached
+		 */
+		void backoff(final HttpResponse<?> response) throws InterruptedException {
+			final Rule rule = rules.get(response.statusCode());
+			if (rule == null) {
+				throw new IllegalArgumentException("HTTP/S status code not retryable: " + response.statusCode());
+			}
+
+			if (attempts >= maxAttempts) {
+				throw exhausted(response, "after " + attempts + " attempts");
+			}
+
+			final long remainingMillis = budget.toMillis() - Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+			final long delayMillis = delay(rule, response.headers().firstValue("Retry-After"));
+			if (delayMillis > remainingMillis) {
+				// waiting would exceed the budget anyway: fail now
+				throw exhausted(response, "within " + budget.toSeconds() + " seconds");
+			}
+
+			attempts++;
+			Thread.sleep(delayMillis);
+		}
+
+		private long delay(final Rule rule, final Optional<String> retryAfter) {
+			final long jitterBound = Math.max(1, rule.initialDelay().toMillis());
+			if (retryAfter.isPresent()) {
+				final long retryAfterMillis = parseRetryAfter(retryAfter.get());
+				if (retryAfterMillis >= 0) {
+					// a small jitter still spreads the callers told to come back at the same time
+					return retryAfterMillis + ThreadLocalRandom.current().nextLong(jitterBound);
+				}
+			}
+
+			final long cap = rule.maxDelay().toMillis();
+			final long backoff = Math.min(cap, rule.initialDelay().toMillis() << Math.min(attempts - 1, 30));
+			return backoff <= 0 ? 0 : ThreadLocalRandom.current().nextLong(backoff + 1);
+		}
+
+		private TestPilotException exhausted(final HttpResponse<?> response, final String limit) {
+			return new TestPilotException(RETRY_LIMIT_REACHED,
+					new IllegalStateException("HTTP/S status code: " + response.statusCode() + ", giving up " + limit));
+		}
+	}
+
+	/**
+	 * Parses a <code>Retry-After</code> header value: either a number of seconds or an HTTP date. Returns the
+	 * delay in milliseconds, or -1 if the value is invalid.
+	 */
+	static long parseRetryAfter(final String value) {
+		final String trimmed = value.trim();
+		try {
+			return Math.max(0, Long.parseLong(trimmed)) * 1000L;
+		}
+		catch (NumberFormatException nfe) {
+			try {
+				final ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+				return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+			}
+			catch (DateTimeParseException dtpe) {
+				return -1;
+			}
+		}
+	}
+}
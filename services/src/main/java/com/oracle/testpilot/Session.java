@@ -0,0 +1,1685 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.exception.TestPilotException;
+import com.oracle.testpilot.git.GitRepository;
+import com.oracle.testpilot.json.JSON;
+import com.oracle.testpilot.json.JSONSubscriber;
+import com.oracle.testpilot.json.JSONWriter;
+import com.oracle.testpilot.model.Action;
+import com.oracle.testpilot.model.Database;
+import com.oracle.testpilot.model.GitHubCommittedFiles;
+import com.oracle.testpilot.model.GitHubFilename;
+import com.oracle.testpilot.model.GitHubPullRequestCommits;
+import com.oracle.testpilot.model.OAuthToken;
+import com.oracle.testpilot.model.ProvisioningHandle;
+import com.oracle.testpilot.model.TechnologyType;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.oracle.testpilot.exception.TestPilotException.*;
+import static com.oracle.testpilot.model.Action.*;
+
+/**
+ * Oracle Test Pilot session.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.0
+ */
+public class Session {
+
+	private static final int DEFAULT_MAX_ATTEMPTS = 30;
+	private static final int DEFAULT_RETRY_TIMEOUT = 15 * 60; // seconds
+	private static final int DEFAULT_MAX_CONCURRENCY = 8;
+	// how often the journal is read while a create request sent by another step is in flight
+	private static final Duration JOURNAL_POLLING_INTERVAL = Duration.ofSeconds(2);
+	// how often the journal is read until the background create process has sent its request
+	private static final Duration BACKGROUND_POLLING_INTERVAL = Duration.ofMillis(50);
+	private static final int GITHUB_PAGE_SIZE = 100; // maximum allowed
+	// maximum number of files listed by the pull request files endpoint
+	private static final int GITHUB_PULL_REQUEST_FILES_LIMIT = 3000;
+	private static final int DATABASE_PORT = 1521;
+
+	// sources of the changed files analyzed by skip-testing
+	private static final String SOURCE_FILES = "files";
+	private static final String SOURCE_COMMITS = "commits";
+	private static final String SOURCE_LOCAL = "local";
+	private static final int MAX_USERS = 10;
+	private static final int MAX_USER_LENGTH = 118;
+	private static final int COMMA_LENGTH = 1;
+	private static final int MAX_USERS_LENGTH = (MAX_USER_LENGTH + COMMA_LENGTH) * MAX_USERS - COMMA_LENGTH;
+
+	public Action action;
+
+	private final String githubOutput;
+	// the services processed concurrently write their outputs one at a time
+	private final ReentrantLock githubOutputLock = new ReentrantLock();
+	// standard output of the step (the client connected to the daemon)
+	private final PrintStream out;
+	// standard error of the step
+	private final PrintStream err;
+	// relative paths are resolved against it
+	private final Path workingDirectory;
+	// given to the background create processes
+	private final Map<String, String> environment;
+
+	private final String runID;
+	private final String apiHOST;
+	private final String clientSecret;
+	private final String clientId;
+
+	// shared with the other sessions of the engine (see Engine)
+	private final TokenCache tokenCache;
+	private final ReentrantLock tokenLock;
+	private final HttpCache httpCache;
+
+	// create requests of the job, reused when a step runs again
+	private final CreateJournal createJournal;
+
+	private String users;
+	// internal technology types of the services to create or delete, concurrently if several
+	private List<String> technologyTypes;
+
+	// create: submit the request without waiting for the database (see await)
+	private boolean noWait;
+	private ProvisioningHandle[] handles;
+
+	// HTTP protocol version used to call the ORDS endpoints (GitHub APIs use the client default: HTTP/2)
+	private HttpClient.Version ordsHttpVersion = HttpClient.Version.HTTP_1_1;
+
+	// limits of the retries of the provisioning service calls
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+	private Duration retryTimeout = Duration.ofSeconds(DEFAULT_RETRY_TIMEOUT);
+	// maximum time waiting for the database to accept connections once provisioned, zero to not wait
+	private Duration readyTimeout = Duration.ZERO;
+
+	// one client for the whole engine: connections are kept alive and reused across calls, retries and sessions
+	private final HttpClient client;
+
+	private String prefixList;
+	private String owner;
+	private String repository;
+	private String pullRequestNumber;
+	private String source = SOURCE_FILES;
+	// local source: revisions compared and working tree of the repository
+	private String base = "HEAD^1";
+	private String head = "HEAD";
+	private String workTree = ".";
+	// analyze all the files instead of stopping at the first one requiring tests
+	private boolean exactCount;
+	// maximum number of commit details fetched at the same time
+	private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+	/**
+	 * @param engine           state shared with the other sessions
+	 * @param args             command line parameters
+	 * @param environment      environment variables of the step
+	 * @param workingDirectory working directory of the step
+	 * @param out              standard output of the step
+	 * @param err              standard error of the step
+	 */
+	public Session(final Engine engine, final String[] args, final Map<String, String> environment, final Path workingDirectory, final PrintStream out, final PrintStream err) {
+		this.out = out;
+		this.err = err;
+		this.workingDirectory = workingDirectory;
+		this.environment = environment;
+		// ---------------------------------------------------------------------------------------------------------------------
+		// GITHUB_OUTPUT:
+		// The path on the runner to the file that sets the current step's outputs from workflow
+		// commands. The path to this file is unique to the current step and changes for each step
+		// in a job. For example, /home/runner/work/_temp/_runner_file_commands/set_output_a50ef383-b063-46d9-9157-57953fc9f3f0.
+		// see https://docs.github.com/en/actions/reference/workflows-and-actions/workflow-commands#setting-an-output-parameter
+		githubOutput = environment.get("GITHUB_OUTPUT");
+		// ---------------------------------------------------------------------------------------------------------------------
+		// RUNID:
+		// Variable initialized by this GitHub Action from within its action.yml file.
+		// env:
+		//   RUNID: ${{ github.run_number }}
+		// github.run_number: A unique number for each run of a particular workflow in a repository.
+		// This number begins at 1 for the workflow's first run, and increments with each new run. This
+		// number does not change if you re-run the workflow run.
+		// see https://docs.github.com/en/actions/reference/workflows-and-actions/contexts#github-context
+		runID = environment.get("RUNID");
+		// ---------------------------------------------------------------------------------------------------------------------
+		// RUNNER_TEMP:
+		// The path to a temporary directory on the runner, emptied at the beginning and end of each job.
+		// The create requests of the job are journaled there.
+		createJournal = new CreateJournal(environment.get("RUNNER_TEMP"));
+
+		apiHOST = engine.apiHost();
+		clientSecret = engine.clientSecret();
+		clientId = engine.clientId();
+		tokenCache = engine.tokenCache();
+		tokenLock = engine.tokenLock();
+		httpCache = engine.httpCache();
+		client = engine.client();
+
+		analyzeCommandLineParameters(args);
+	}
+
+	private void analyzeCommandLineParameters(final String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			final String arg = args[i].toLowerCase();
+
+			switch (arg) {
+				case "--help":
+				case "-h":
+				case "-?":
+					displayUsage();
+					action = null;
+					return;
+
+				case "--create":
+					action = CREATE;
+					break;
+
+				case "--delete":
+					action = DELETE;
+					break;
+
+				case "--await":
+					action = AWAIT;
+					break;
+
+				case "--no-wait":
+					noWait = true;
+					break;
+
+				case "--handle":
+					if (i + 1 < args.length) {
+						handles = new JSON<>(ProvisioningHandle[].class).parse(args[++i]);
+						if (handles == null || handles.length == 0) {
+							throw new TestPilotException(WRONG_HANDLE_PARAMETER, new IllegalArgumentException("--handle must be the handle output of a --create --no-wait step"));
+						}
+						for (ProvisioningHandle handle : handles) {
+							if (handle == null || handle.getRunID() == null || handle.getType() == null || handle.getUser() == null || handle.getUser().length == 0
+									|| badChars(String.join(",", handle.getUser())) || !isRelativeLocation(handle.getLocation())) {
+								throw new TestPilotException(WRONG_HANDLE_PARAMETER, new IllegalArgumentException("--handle must be the handle output of a --create --no-wait step"));
+							}
+						}
+					}
+					else {
+						throw new TestPilotException(HANDLE_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --handle parameter"));
+					}
+					break;
+
+				case "--user":
+					if (i + 1 < args.length) {
+						users = args[++i];
+
+						if(users.length() > MAX_USERS_LENGTH) {
+							throw new TestPilotException(USER_PARAMETER_TOO_LONG, new IllegalArgumentException("Value for --user parameter is too long, maximum length: "+MAX_USERS_LENGTH));
+						}
+					}
+					else {
+						throw new TestPilotException(USER_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --user parameter"));
+					}
+					break;
+
+				case "--oci-service":
+					if (i + 1 < args.length) {
+						// several services can be given as a comma separated list
+						final Set<String> types = new LinkedHashSet<>();
+						for (String service : args[++i].split(",")) {
+							final String type = getInternalTechnologyType(service);
+							if (type == null) {
+								throw new TestPilotException(WRONG_OCI_SERVICE_PARAMETER,
+										new IllegalArgumentException("--oci-service must be either autonomous-transaction-processing-serverless-19c, autonomous-transaction-processing-serverless-26ai, base-database-service-19c, base-database-service-21c, base-database-service-26ai, or base-database-service-23ai, or a comma separated list of them"));
+							}
+							types.add(type);
+						}
+						technologyTypes = List.copyOf(types);
+					}
+					else {
+						throw new TestPilotException(OCI_SERVICE_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --oci-service parameter"));
+					}
+					break;
+
+				case "--http-version":
+					if (i + 1 < args.length) {
+						ordsHttpVersion = switch (args[++i]) {
+							case "1.1" -> HttpClient.Version.HTTP_1_1;
+							case "2" -> HttpClient.Version.HTTP_2;
+							default -> throw new TestPilotException(WRONG_HTTP_VERSION_PARAMETER,
+									new IllegalArgumentException("--http-version must be either 1.1 or 2"));
+						};
+					}
+					else {
+						throw new TestPilotException(HTTP_VERSION_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --http-version parameter"));
+					}
+					break;
+
+				case "--max-attempts":
+					if (i + 1 < args.length) {
+						try {
+							maxAttempts = Integer.parseInt(args[++i]);
+							if (maxAttempts < 1) {
+								throw new NumberFormatException(args[i]);
+							}
+						}
+						catch (NumberFormatException nfe) {
+							throw new TestPilotException(WRONG_MAX_ATTEMPTS_PARAMETER,
+									new IllegalArgumentException("--max-attempts must be a positive integer"));
+						}
+					}
+					else {
+						throw new TestPilotException(MAX_ATTEMPTS_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --max-attempts parameter"));
+					}
+					break;
+
+				case "--retry-timeout":
+					if (i + 1 < args.length) {
+						try {
+							final long seconds = Long.parseLong(args[++i]);
+							if (seconds < 0) {
+								throw new NumberFormatException(args[i]);
+							}
+							retryTimeout = Duration.ofSeconds(seconds);
+						}
+						catch (NumberFormatException nfe) {
+							throw new TestPilotException(WRONG_RETRY_TIMEOUT_PARAMETER,
+									new IllegalArgumentException("--retry-timeout must be a number of seconds"));
+						}
+					}
+					else {
+						throw new TestPilotException(RETRY_TIMEOUT_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --retry-timeout parameter"));
+					}
+					break;
+
+				case "--ready-timeout":
+					if (i + 1 < args.length) {
+						try {
+							final long seconds = Long.parseLong(args[++i]);
+							if (seconds < 0) {
+								throw new NumberFormatException(args[i]);
+							}
+							readyTimeout = Duration.ofSeconds(seconds);
+						}
+						catch (NumberFormatException nfe) {
+							throw new TestPilotException(WRONG_READY_TIMEOUT_PARAMETER,
+									new IllegalArgumentException("--ready-timeout must be a number of seconds"));
+						}
+					}
+					else {
+						throw new TestPilotException(READY_TIMEOUT_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --ready-timeout parameter"));
+					}
+					break;
+
+				case "--skip-testing":
+					action = SKIP_TESTING;
+					break;
+
+				case "--prefix-list":
+					if (i + 1 < args.length) {
+						prefixList = args[++i];
+					}
+					else {
+						throw new TestPilotException(PREFIX_LIST_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --prefix-list parameter"));
+					}
+					break;
+
+				case "--owner":
+					if (i + 1 < args.length) {
+						owner = args[++i];
+					}
+					else {
+						throw new TestPilotException(OWNER_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --owner parameter"));
+					}
+					break;
+
+				case "--repository":
+					if (i + 1 < args.length) {
+						repository = args[++i];
+					}
+					else {
+						throw new TestPilotException(REPOSITORY_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --repository parameter"));
+					}
+					break;
+
+				case "--pull-request-number":
+					if (i + 1 < args.length) {
+						pullRequestNumber = args[++i];
+					}
+					else {
+						throw new TestPilotException(PULL_REQUEST_NUMBER_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --pull-request-number parameter"));
+					}
+					break;
+
+				case "--source":
+					if (i + 1 < args.length) {
+						source = switch (args[++i]) {
+							case SOURCE_FILES -> SOURCE_FILES;
+							case SOURCE_COMMITS -> SOURCE_COMMITS;
+							case SOURCE_LOCAL -> SOURCE_LOCAL;
+							default -> throw new TestPilotException(WRONG_SOURCE_PARAMETER,
+									new IllegalArgumentException("--source must be either files, commits or local"));
+						};
+					}
+					else {
+						throw new TestPilotException(SOURCE_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --source parameter"));
+					}
+					break;
+
+				case "--base":
+					if (i + 1 < args.length) {
+						base = args[++i];
+					}
+					else {
+						throw new TestPilotException(BASE_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --base parameter"));
+					}
+					break;
+
+				case "--head":
+					if (i + 1 < args.length) {
+						head = args[++i];
+					}
+					else {
+						throw new TestPilotException(HEAD_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --head parameter"));
+					}
+					break;
+
+				case "--work-tree":
+					if (i + 1 < args.length) {
+						workTree = args[++i];
+					}
+					else {
+						throw new TestPilotException(WORK_TREE_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --work-tree parameter"));
+					}
+					break;
+
+				case "--exact-count":
+					exactCount = true;
+					break;
+
+				case "--max-concurrency":
+					if (i + 1 < args.length) {
+						try {
+							maxConcurrency = Integer.parseInt(args[++i]);
+							if (maxConcurrency < 1) {
+								throw new NumberFormatException(args[i]);
+							}
+						}
+						catch (NumberFormatException nfe) {
+							throw new TestPilotException(WRONG_MAX_CONCURRENCY_PARAMETER,
+									new IllegalArgumentException("--max-concurrency must be a positive integer"));
+						}
+					}
+					else {
+						throw new TestPilotException(MAX_CONCURRENCY_MISSING_PARAMETER, new IllegalArgumentException("Missing value for --max-concurrency parameter"));
+					}
+					break;
+
+				default:
+					displayUsage();
+					//out.println("Wrong arg: "+arg);
+					throw new TestPilotException(UNKNOWN_COMMAND_LINE_ARGUMENT);
+			}
+		}
+	}
+
+	private void displayUsage() {
+		out.println("""
+				Usage: test <action> <options...>
+								
+				Action:
+				--create: to provision the requested Oracle Cloud Infrastructure service to test
+				    Options:
+				    --oci-service <value>      OCI service type (autonomous-transaction-processing-serverless, base-database-service-19c, base-database-service-21c, base-database-service-23ai)
+				                               or comma separated list of types, processed concurrently
+				    --user <user>              user name to be used (if several, then comma separated list without any space)
+				    --http-version <1.1|2>     HTTP protocol version to use with the provisioning service (default: 1.1)
+				    --max-attempts <n>         maximum number of calls to the provisioning service (default: 30)
+				    --retry-timeout <seconds>  maximum time spent retrying the provisioning service (default: 900)
+				    --no-wait                  submit the request and write its handle without waiting for the database
+				    --ready-timeout <seconds>  maximum time waiting for the database to accept connections (default: 0, not waiting)
+				--await: to wait for the Oracle Cloud Infrastructure service requested using --create --no-wait
+				    Options:
+				    --handle <handle>          handle written by the --create --no-wait step
+				    --ready-timeout <seconds>  maximum time waiting for the database to accept connections (default: 0, not waiting)
+				    --http-version <1.1|2>     HTTP protocol version to use with the provisioning service (default: 1.1)
+				    --max-attempts <n>         maximum number of calls to the provisioning service (default: 30)
+				    --retry-timeout <seconds>  maximum time spent waiting for the provisioning service (default: 900)
+				--delete: to de-provision the Oracle Cloud Infrastructure service
+				    Options:
+				    --oci-service <value>      OCI service type (autonomous-transaction-processing-serverless, base-database-service-19c, base-database-service-21c, base-database-service-23ai)
+				                               or comma separated list of types, processed concurrently
+				    --user <user>              user name to be used (if several, then comma separated list without any space)
+				    --http-version <1.1|2>     HTTP protocol version to use with the provisioning service (default: 1.1)
+				    --max-attempts <n>         maximum number of calls to the provisioning service (default: 30)
+				    --retry-timeout <seconds>  maximum time spent retrying the provisioning service (default: 900)
+				--skip-testing
+				    Options:
+					--owner <owner>            GitHub project owner
+					--repository <repository>  GitHub project repository
+					--sha <sha>                GitHub commit sha to check
+					--prefix-list <p1,p2,...>  comma separated list of prefixes that will NOT trigger tests (can be file and folders)
+					                           or of glob patterns (**/*.md, docs/**, *.[ch]...)
+					--source <files|commits|local>
+					                           files: net changes of the PR (default), commits: files of each commit,
+					                           local: changes between two revisions read from the local .git directory (no API call)
+					--base <revision>          local source: base revision (default: HEAD^1)
+					--head <revision>          local source: head revision (default: HEAD)
+					--work-tree <path>         local source: working tree of the repository (default: .)
+					--max-concurrency <n>      maximum number of commits analyzed concurrently (default: 8)
+					--exact-count              count all the files instead of stopping at the first one requiring tests
+				--daemon: to serve the actions of the steps running on this host over the Unix domain socket TESTPILOT_DAEMON_SOCKET
+				    Steps run with TESTPILOT_DAEMON_SOCKET set are forwarded to the daemon if it is listening
+				""");
+	}
+
+	public void run() {
+		if (action == null) return;
+
+		switch (action) {
+			case CREATE:
+				create();
+				break;
+
+			case DELETE:
+				delete();
+				break;
+
+			case SKIP_TESTING:
+				skipTesting();
+				break;
+
+			case AWAIT:
+				await();
+				break;
+		}
+	}
+
+	private void create() {
+		if (users == null || users.isEmpty()) {
+			throw new TestPilotException(CREATE_DATABASE_MISSING_USER_NAME);
+		}
+		if(badChars(users)) {
+			throw new TestPilotException(CREATE_DATABASE_WRONG_USER_NAME);
+		}
+		if (technologyTypes == null) {
+			throw new TestPilotException(CREATE_DATABASE_MISSING_DB_TYPE);
+		}
+
+		// with several services, the outputs are suffixed by the service type (database_host_db23ai...)
+		final boolean suffixed = technologyTypes.size() > 1;
+		final List<ProvisioningHandle> submitted = concurrently(technologyTypes, type -> {
+			final String suffix = suffixed ? "_" + type : "";
+			if (noWait) {
+				return submit(runID, type, users, suffix);
+			}
+			provision(runID, type, users, suffix);
+			return null;
+		});
+
+		try {
+			if (noWait) {
+				writeHandlesToGitHubOutput(submitted);
+			}
+			else {
+				writeToGitHubOutput("create=ok\n");
+			}
+		}
+		catch (IOException e) {
+			throw new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, e);
+		}
+	}
+
+	/**
+	 * Waits for the database requested by a previous <code>--create --no-wait</code> step, identified by its
+	 * handle, then writes its information as the create action does.
+	 */
+	private void await() {
+		if (handles == null) {
+			throw new TestPilotException(AWAIT_MISSING_HANDLE);
+		}
+
+		final boolean suffixed = handles.length > 1;
+		concurrently(List.of(handles), handle -> {
+			final String suffix = suffixed ? "_" + handle.getType() : "";
+			if (handle.getLocation() == null) {
+				// the request was not processed asynchronously: its result is in the journal of the job, the
+				// request is never sent again (a new provisioning cycle would start)
+				final String users = String.join(",", handle.getUser());
+				final CreateJournal.Entry journaled = journaled(handle.getRunID(), handle.getType(), users);
+				if (journaled == null) {
+					// output of the background create process, if the request failed
+					final Path log = createJournal.log(handle.getRunID(), handle.getType(), users);
+					if (log != null && Files.exists(log)) {
+						err.print(Files.readString(log));
+					}
+					throw new TestPilotException(AWAIT_MISSING_HANDLE,
+							new IllegalStateException("No " + handle.getType() + " create request of this handle journaled under RUNNER_TEMP: either it failed, or the await action does not run in the job of the create action"));
+				}
+				resume(handle.getRunID(), handle.getType(), users, journaled, false, suffix);
+			}
+			else {
+				poll(handle.getRunID(), handle.getType(), String.join(",", handle.getUser()),
+						new URI(String.format("https://%s", apiHOST)).resolve(handle.getLocation()), suffix);
+			}
+			return null;
+		});
+
+		try {
+			writeToGitHubOutput("create=ok\n");
+		}
+		catch (IOException e) {
+			throw new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, e);
+		}
+	}
+
+	/**
+	 * Work done for one service.
+	 */
+	@FunctionalInterface
+	private interface ServiceTask<S, T> {
+		T run(S service) throws URISyntaxException, IOException, InterruptedException;
+	}
+
+	/**
+	 * Runs the task for each service concurrently, on virtual threads sharing the session HTTP client and
+	 * OAuth2 token: the total duration is the one of the slowest service. Once all the tasks have completed,
+	 * the first failure, if any, is thrown, the other ones being reported.
+	 *
+	 * @return the results, in the order of the services
+	 */
+	private <S, T> List<T> concurrently(final List<S> services, final ServiceTask<S, T> task) {
+		final List<Future<T>> futures = new ArrayList<>(services.size());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (S service : services) {
+				futures.add(executor.submit(() -> {
+					try {
+						return task.run(service);
+					}
+					catch (URISyntaxException | IllegalArgumentException e) {
+						throw new TestPilotException(WRONG_MAIN_CONTROLLER_URI, e);
+					}
+					catch (IOException | InterruptedException e) {
+						throw new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, e);
+					}
+				}));
+			}
+		}
+
+		final List<T> results = new ArrayList<>(services.size());
+		TestPilotException failure = null;
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			}
+			catch (ExecutionException ee) {
+				final TestPilotException e = ee.getCause() instanceof TestPilotException tpe ? tpe : new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, ee.getCause());
+				if (failure == null) {
+					failure = e;
+				}
+				else {
+					e.printStackTrace(err);
+				}
+			}
+			catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				throw new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, ie);
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return results;
+	}
+
+	/**
+	 * Sends the create request and waits for the database.
+	 *
+	 * @param suffix suffix of the output names
+	 */
+	private void provision(final String runID, final String type, final String users, final String suffix) throws URISyntaxException, IOException, InterruptedException {
+		final URI uri = new URI(String.format("https://%s/ords/testpilot/resources/create", apiHOST));
+
+		// step run again: no new provisioning cycle for a request already sent by this job
+		final CreateJournal.Entry journaled = journaled(runID, type, users);
+		if (journaled != null) {
+			resume(runID, type, users, journaled, false, suffix);
+			return;
+		}
+
+		final HttpRequest.BodyPublisher body = resourceRequestBody(runID, type, users, true);
+
+		final RetryPolicy retryPolicy = new RetryPolicy(maxAttempts, retryTimeout)
+				// expired or revoked token: retried at once with a new token
+				.retryOn(401, Duration.ZERO, Duration.ZERO)
+				// too many requests (rate limiting)
+				.retryOn(429, Duration.ofSeconds(2), Duration.ofMinutes(1));
+		final RetryPolicy.Retry retry = retryPolicy.start();
+
+		boolean done = false;
+		// journaled before sending: a step killed while waiting for the response must not be run again blindly
+		createJournal.inFlight(runID, type, users);
+		// whether the last request sent may have been processed without its response being received
+		boolean unanswered = false;
+		// whether the outcome of the request is journaled
+		boolean recorded = false;
+
+		try {
+			do {
+				final String token = getOAuth2Token();
+
+				final HttpRequest.Builder builder = HttpRequest.newBuilder()
+						.uri(uri)
+						.version(ordsHttpVersion)
+						.headers("Accept", "application/json",
+								"Content-Type", "application/json",
+								"Pragma", "no-cache",
+								"Cache-Control", "no-store",
+								"User-Agent", "setup-testpilot/" + Main.VERSION,
+								"Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING,
+								"Authorization", "Bearer " + token)
+						.POST(body);
+
+				// the database description is decoded while the response is received
+				unanswered = true;
+				final HttpResponse<Database> response;
+				try {
+					response = join(client.sendAsync(builder.build(), DecompressingBodyHandler.of(this::createResponseSubscriber)));
+				}
+				catch (TestPilotException tpe) {
+					// error status (see createResponseSubscriber): nothing provisioned
+					unanswered = false;
+					throw tpe;
+				}
+
+				if (response.statusCode() == 200 || response.statusCode() == 201) {
+					done = true;
+					createJournal.done(runID, type, users, response.body().getDatabase());
+					recorded = true;
+					writeCreateResultToGitHubOutput(type, response.body(), suffix);
+					awaitReadiness(type, response.body());
+				}
+				else if (response.statusCode() == 202) {
+					done = true;
+					final URI location = statusLocation(uri, response.headers().firstValue("Location").orElseThrow(() ->
+							new TestPilotException(CREATE_DATABASE_REST_ENDPOINT_ISSUE,
+									new IllegalStateException("HTTP/S status code: 202 without Location header"))));
+					createJournal.submitted(runID, type, users, location.toString());
+					recorded = true;
+					poll(runID, type, users, location, suffix);
+				}
+				else {
+					unanswered = false;
+					if (response.statusCode() == 401) {
+						// cached token revoked or expired earlier than announced: request a new one
+						tokenCache.invalidate();
+					}
+					retry.backoff(response);
+				}
+			} while(!done);
+		}
+		catch (IOException | InterruptedException | RuntimeException e) {
+			if (!recorded) {
+				if (unanswered) {
+					createJournal.interrupted(runID, type, users);
+				}
+				else {
+					// every request got an error status: the step can safely be run again
+					createJournal.remove(runID, type, users);
+				}
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Submits the create request without waiting for the database. Unless the request was already sent by
+	 * this job, it is sent by a background process (see {@link BackgroundCreate}): the step returns as soon
+	 * as the request is journaled as in flight.
+	 *
+	 * @param suffix suffix of the output names
+	 * @return the handle of the request, for the await step
+	 */
+	private ProvisioningHandle submit(final String runID, final String type, final String users, final String suffix) throws URISyntaxException, IOException, InterruptedException {
+		final Path log = createJournal.log(runID, type, users);
+		if (log == null) {
+			throw new TestPilotException(NO_WAIT_MISSING_RUNNER_TEMP,
+					new IllegalStateException("--no-wait requires RUNNER_TEMP: the await step reads the outcome of the create request from there"));
+		}
+
+		CreateJournal.Entry journaled = createJournal.get(runID, type, users);
+		if (journaled == null) {
+			final List<String> arguments = List.of("--create", "--oci-service", getServiceName(type), "--user", users,
+					"--http-version", ordsHttpVersion == HttpClient.Version.HTTP_2 ? "2" : "1.1",
+					"--max-attempts", String.valueOf(maxAttempts), "--retry-timeout", String.valueOf(retryTimeout.toSeconds()));
+			final Process process = BackgroundCreate.start(arguments, environment, log);
+
+			while (true) {
+				// checked before the journal: a process which has just exited may have journaled its outcome
+				final boolean alive = process.isAlive();
+				journaled = createJournal.get(runID, type, users);
+				if (journaled != null) {
+					break;
+				}
+				if (!alive) {
+					err.print(Files.readString(log));
+					throw new TestPilotException(process.exitValue() > 0 ? process.exitValue() : CREATE_DATABASE_REST_ENDPOINT_ISSUE,
+							new IllegalStateException("The background create process of " + type + " failed"));
+				}
+				Thread.sleep(BACKGROUND_POLLING_INTERVAL.toMillis());
+			}
+			out.printf("Create request of %s sent by process %d (output: %s)%n", type, process.pid(), log);
+		}
+
+		return switch (journaled.state()) {
+			case IN_FLIGHT -> handle(runID, type, users, null);
+			case INTERRUPTED -> throw interrupted(type);
+			case SUBMITTED, DONE -> resume(runID, type, users, journaled, true, suffix);
+		};
+	}
+
+	/**
+	 * Resumes a create request sent earlier in this job from its journaled state, done or submitted.
+	 *
+	 * @return the handle if <code>async</code>, null otherwise
+	 */
+	private ProvisioningHandle resume(final String runID, final String type, final String users, final CreateJournal.Entry journaled,
+									  final boolean async, final String suffix) throws URISyntaxException, IOException, InterruptedException {
+		if (journaled.state() == CreateJournal.State.DONE) {
+			out.printf("Reusing the %s database created earlier in this job%n", type);
+			final Database result = new Database();
+			result.setDatabase(journaled.database());
+			writeCreateResultToGitHubOutput(type, result, suffix);
+			if (async) {
+				return handle(runID, type, users, null);
+			}
+			awaitReadiness(type, result);
+			return null;
+		}
+
+		out.printf("Resuming the %s create request submitted earlier in this job%n", type);
+		final URI location = statusLocation(new URI(String.format("https://%s/ords/testpilot/resources/create", apiHOST)), journaled.location());
+		if (async) {
+			return handle(runID, type, users, location);
+		}
+		poll(runID, type, users, location, suffix);
+		return null;
+	}
+
+	/**
+	 * Returns the journaled state of a create request sent earlier in this job, null if none. Waits for the
+	 * response of a request still in flight (sent by another step, or by the daemon for a step which timed out), and refuses
+	 * to send again a request whose response was lost: only the provisioning service could tell whether it
+	 * provisioned a database, and it gives no handle to ask it.
+	 */
+	private CreateJournal.Entry journaled(final String runID, final String type, final String users) throws InterruptedException {
+		final long deadline = System.nanoTime() + retryTimeout.toNanos();
+		CreateJournal.Entry journaled = createJournal.get(runID, type, users);
+		if (journaled != null && journaled.state() == CreateJournal.State.IN_FLIGHT) {
+			out.printf("Waiting for the %s create request in flight in process %d%n", type, journaled.pid());
+			while (journaled != null && journaled.state() == CreateJournal.State.IN_FLIGHT) {
+				if (System.nanoTime() - deadline > 0) {
+					throw new TestPilotException(RETRY_LIMIT_REACHED,
+							new IllegalStateException("The " + type + " create request in flight in process " + journaled.pid() + " did not complete within " + retryTimeout.toSeconds() + " seconds"));
+				}
+				Thread.sleep(JOURNAL_POLLING_INTERVAL.toMillis());
+				journaled = createJournal.get(runID, type, users);
+			}
+		}
+		if (journaled != null && journaled.state() == CreateJournal.State.INTERRUPTED) {
+			throw interrupted(type);
+		}
+		return journaled;
+	}
+
+	private static TestPilotException interrupted(final String type) {
+		return new TestPilotException(CREATE_DATABASE_INTERRUPTED,
+				new IllegalStateException("The " + type + " create request sent earlier in this job got no response: the database may have been provisioned. Run the delete action before creating it again"));
+	}
+
+	/**
+	 * Polls the status URI of an asynchronous create request until the database is ready.
+	 */
+	private void poll(final String runID, final String type, final String users, final URI location, final String suffix) throws IOException, InterruptedException, URISyntaxException {
+		// polling is only bounded by the retry timeout
+		final RetryPolicy retryPolicy = new RetryPolicy(Integer.MAX_VALUE, retryTimeout)
+				// still provisioning
+				.retryOn(202, Duration.ofSeconds(2), Duration.ofSeconds(15))
+				.retryOn(401, Duration.ZERO, Duration.ZERO)
+				.retryOn(429, Duration.ofSeconds(2), Duration.ofMinutes(1));
+		final RetryPolicy.Retry retry = retryPolicy.start();
+
+		boolean done = false;
+
+		do {
+			final String token = getOAuth2Token();
+
+			final HttpRequest request = HttpRequest.newBuilder()
+					.uri(location)
+					.version(ordsHttpVersion)
+					.headers("Accept", "application/json",
+							"Pragma", "no-cache",
+							"Cache-Control", "no-store",
+							"User-Agent", "setup-testpilot/" + Main.VERSION,
+							"Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING,
+							"Authorization", "Bearer " + token)
+					.GET()
+					.build();
+
+			final HttpResponse<Database> response = join(client.sendAsync(request, DecompressingBodyHandler.of(this::createResponseSubscriber)));
+
+			if (response.statusCode() == 200 || response.statusCode() == 201) {
+				done = true;
+				createJournal.done(runID, type, users, response.body().getDatabase());
+				writeCreateResultToGitHubOutput(type, response.body(), suffix);
+				awaitReadiness(type, response.body());
+			}
+			else {
+				if (response.statusCode() == 401) {
+					tokenCache.invalidate();
+				}
+				retry.backoff(response);
+			}
+		} while(!done);
+	}
+
+	private void writeCreateResultToGitHubOutput(final String type, final Database jsonInformation, final String suffix) throws FileNotFoundException {
+		switch (type) {
+			case TechnologyType.AUTONOMOUS26AI:
+			case TechnologyType.AUTONOMOUS19C: {
+				final Database database = jsonInformation.getDatabase();
+
+				final String connectionString = String.format("(description=(retry_count=5)(retry_delay=1)(address=(protocol=tcps)(port=1521)(host=%s.oraclecloud.com))(connect_data=(USE_TCP_FAST_OPEN=ON)(service_name=%s_tp.adb.oraclecloud.com))(security=(ssl_server_dn_match=no)))", database.getHost(), database.getService());
+
+				writeDatabaseInformationToGitHubOutput(database, connectionString, suffix);
+			}
+			break;
+			case TechnologyType.DB19C:
+			case TechnologyType.DB21C:
+			case TechnologyType.DB23AI:
+			case TechnologyType.DB26AI: {
+				final Database database = jsonInformation.getDatabase();
+
+				final String connectionString = String.format("%s:1521/%s", database.getHost(), database.getService());
+
+				writeDatabaseInformationToGitHubOutput(database, connectionString, suffix);
+			}
+			break;
+		}
+	}
+
+	/**
+	 * Waits for the database listener to accept connections, if requested: TCP connect, plus a TLS handshake
+	 * for Autonomous Database endpoints.
+	 */
+	private void awaitReadiness(final String type, final Database jsonInformation) throws InterruptedException {
+		if (readyTimeout.isZero()) {
+			return;
+		}
+
+		final Database database = jsonInformation.getDatabase();
+		final boolean autonomous = TechnologyType.AUTONOMOUS19C.equals(type) || TechnologyType.AUTONOMOUS26AI.equals(type);
+		final String host = autonomous ? database.getHost() + ".oraclecloud.com" : database.getHost();
+
+		final Duration timeToReady = new ReadinessProbe(readyTimeout).await(host, DATABASE_PORT, autonomous);
+		out.printf("Database %s ready in %d ms%n", type, timeToReady.toMillis());
+	}
+
+	/**
+	 * Resolves the status location of an asynchronous create request. The OAuth2 token being sent to it, it
+	 * must target the API host.
+	 */
+	private URI statusLocation(final URI uri, final String location) {
+		final URI resolved = uri.resolve(location);
+		if (!"https".equalsIgnoreCase(resolved.getScheme()) || !apiHOST.equalsIgnoreCase(resolved.getRawAuthority())) {
+			throw new TestPilotException(CREATE_DATABASE_REST_ENDPOINT_ISSUE,
+					new IllegalStateException("Status location outside of the API host: " + resolved.getHost()));
+		}
+		return resolved;
+	}
+
+	/**
+	 * A handle comes from the workflow: its status location must be a path on the API host, without scheme
+	 * nor host of its own.
+	 */
+	private static boolean isRelativeLocation(final String location) {
+		if (location == null) {
+			return true;
+		}
+		try {
+			final URI uri = new URI(location);
+			return uri.getScheme() == null && uri.getRawAuthority() == null && location.startsWith("/") && !location.startsWith("//");
+		}
+		catch (URISyntaxException use) {
+			return false;
+		}
+	}
+
+	/**
+	 * Builds the handle of a create request for a later <code>--await</code> step. The status location, on
+	 * the API host (see {@link #statusLocation(URI, String)}), is kept relative to it: the host must not
+	 * appear in outputs.
+	 */
+	private ProvisioningHandle handle(final String runID, final String type, final String users, final URI location) {
+		final ProvisioningHandle handle = new ProvisioningHandle();
+		handle.setRunID(runID);
+		handle.setType(type);
+		handle.setUser(users.split(","));
+		if (location != null) {
+			handle.setLocation(location.getRawPath() + (location.getRawQuery() == null ? "" : "?" + location.getRawQuery()));
+		}
+		return handle;
+	}
+
+	/**
+	 * Writes the handles of the submitted create requests as one JSON array, given to the await step.
+	 */
+	private void writeHandlesToGitHubOutput(final List<ProvisioningHandle> submitted) throws FileNotFoundException {
+		final JSONWriter handles = new JSONWriter().beginArray();
+		for (ProvisioningHandle handle : submitted) {
+			handles.beginObject()
+					.name("runID").value(handle.getRunID())
+					.name("type").value(handle.getType())
+					.name("user").beginArray();
+			for (String user : handle.getUser()) {
+				handles.value(user);
+			}
+			handles.endArray();
+			if (handle.getLocation() != null) {
+				handles.name("location").value(handle.getLocation());
+			}
+			handles.endObject();
+		}
+		handles.endArray();
+
+		writeToGitHubOutput(String.format("""
+				handle=%s
+				create=submitted%n""", handles));
+	}
+
+	/**
+	 * Selects how the create response body is consumed depending on the HTTP status code: the JSON
+	 * document is parsed incrementally in case of success, the body is discarded when the call is retried
+	 * and reported as text otherwise.
+	 */
+	private HttpResponse.BodySubscriber<Database> createResponseSubscriber(final HttpResponse.ResponseInfo responseInfo) {
+		return switch (responseInfo.statusCode()) {
+			case 200, 201 -> HttpResponse.BodySubscribers.fromSubscriber(new JSONSubscriber<>(Database.class), JSONSubscriber::getResult);
+			case 202, 401, 429 -> HttpResponse.BodySubscribers.replacing(null);
+			default -> HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), body -> {
+				throw new TestPilotException(CREATE_DATABASE_REST_ENDPOINT_ISSUE,
+						new IllegalStateException("HTTP/S status code: " + responseInfo.statusCode(),
+								new IllegalStateException(body)));
+			});
+		};
+	}
+
+	/**
+	 * Waits for an asynchronous exchange, unwrapping the failures raised while the body was consumed.
+	 */
+	private static <T> T join(final CompletableFuture<T> exchange) throws IOException, InterruptedException {
+		try {
+			return exchange.get();
+		}
+		catch (ExecutionException ee) {
+			final Throwable cause = ee.getCause() instanceof CompletionException && ee.getCause().getCause() != null ? ee.getCause().getCause() : ee.getCause();
+			if (cause instanceof TestPilotException tpe) {
+				throw tpe;
+			}
+			if (cause instanceof IOException ioe) {
+				throw ioe;
+			}
+			if (cause instanceof UncheckedIOException uioe) {
+				// body not parsed (see JSONSubscriber#getResult)
+				throw uioe.getCause();
+			}
+			throw new IOException(cause);
+		}
+	}
+
+	private void writeDatabaseInformationToGitHubOutput(Database database, String connectionString, String suffix) throws FileNotFoundException {
+		if (githubOutput != null) {
+			out.printf("::add-mask::%s%n", database.getPassword());
+			writeToGitHubOutput(String.format("""
+							database_host%2$s=%1$s
+							database_service%2$s=%3$s
+							database_password%2$s=%4$s
+							database_version%2$s=%5$s
+							connection_string_suffix%2$s="%6$s"%n""",
+					database.getHost(), suffix, database.getService(), database.getPassword(), database.getVersion(),
+					connectionString));
+		}
+	}
+
+	/**
+	 * Appends output lines to the <code>GITHUB_OUTPUT</code> file, the services processed concurrently
+	 * writing their outputs one at a time (a lock rather than synchronized: the writer may be a virtual thread
+	 * blocking on file I/O).
+	 */
+	private void writeToGitHubOutput(final String lines) throws FileNotFoundException {
+		if (githubOutput != null) {
+			githubOutputLock.lock();
+			try (PrintWriter out = new PrintWriter(new BufferedOutputStream(new FileOutputStream(githubOutput, true)))) {
+				out.print(lines);
+			}
+			finally {
+				githubOutputLock.unlock();
+			}
+		}
+	}
+
+	private void delete() {
+		if (users == null || users.isEmpty()) {
+			throw new TestPilotException(DROP_DATABASE_MISSING_USER_NAME);
+		}
+		if(badChars(users)) {
+			throw new TestPilotException(DROP_DATABASE_WRONG_USER_NAME);
+		}
+		if (technologyTypes == null) {
+			throw new TestPilotException(DROP_DATABASE_MISSING_DB_TYPE);
+		}
+
+		final boolean suffixed = technologyTypes.size() > 1;
+		final List<Boolean> deleted = concurrently(technologyTypes, type -> {
+			final boolean ok = deprovision(type);
+			if (suffixed) {
+				writeToGitHubOutput(String.format("delete_%s=%s%n", type, ok ? "ok" : "ko"));
+			}
+			return ok;
+		});
+
+		try {
+			writeToGitHubOutput(deleted.contains(Boolean.FALSE) ? "delete=ko\n" : "delete=ok\n");
+		}
+		catch (IOException e) {
+			throw new TestPilotException(WRONG_MAIN_CONTROLLER_REST_CALL, e);
+		}
+	}
+
+	/**
+	 * Submits the delete request of one service.
+	 *
+	 * @return false if the provisioning service timed out deleting the resources
+	 */
+	private boolean deprovision(final String type) throws URISyntaxException, IOException, InterruptedException {
+		final URI uri = new URI(String.format("https://%s/ords/testpilot/resources/delete", apiHOST));
+
+		final HttpRequest.BodyPublisher body = resourceRequestBody(runID, type, users, false);
+
+		final RetryPolicy retryPolicy = new RetryPolicy(maxAttempts, retryTimeout)
+				// expired or revoked token: retried at once with a new token
+				.retryOn(401, Duration.ZERO, Duration.ZERO)
+				// too many requests (rate limiting)
+				.retryOn(429, Duration.ofSeconds(2), Duration.ofMinutes(1))
+				// ORA-01940: cannot drop a user that is currently connected, connections are usually closed shortly
+				.retryOn(503, Duration.ofSeconds(5), Duration.ofSeconds(30));
+		final RetryPolicy.Retry retry = retryPolicy.start();
+
+		while (true) {
+			final String token = getOAuth2Token();
+
+			final HttpRequest request = HttpRequest.newBuilder()
+					.uri(uri)
+					.version(ordsHttpVersion)
+					.headers("Accept", "application/json",
+							"Content-Type", "application/json",
+							"Pragma", "no-cache",
+							"Cache-Control", "no-store",
+							"User-Agent", "setup-testpilot/" + Main.VERSION,
+							"Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING,
+							"Authorization", "Bearer " + token)
+					.POST(body)
+					.build();
+
+			final HttpResponse<Void> response = client.send(request, DecompressingBodyHandler.of(HttpResponse.BodyHandlers.discarding()));
+
+			if (response.statusCode() == 200 || response.statusCode() == 204) {
+				// a create step run after this one provisions a new database
+				createJournal.remove(runID, type, users);
+				return true;
+			}
+			else if(retryPolicy.retries(response.statusCode())) {
+				if (response.statusCode() == 401) {
+					// cached token revoked or expired earlier than announced: request a new one
+					tokenCache.invalidate();
+				}
+				retry.backoff(response);
+			}
+			else if(response.statusCode() == 504) {
+				// time out after 10 minutes trying to delete the database
+				return false;
+			}
+			else {
+				throw new TestPilotException(DROP_DATABASE_REST_ENDPOINT_ISSUE,
+						new IllegalStateException("HTTP/S status code: " + response.statusCode()));
+			}
+		}
+	}
+
+	private boolean badChars(final String users) {
+		for(int i = 0; i < users.length(); i++) {
+			final char c = users.charAt(i);
+			if( !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ',' || c == '-' || c == ':' || (c >= '0' && c <= '9')) ) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a valid OAuth2 access token, requesting a new one only if none is cached. Concurrent callers
+	 * wait for the token being requested (a lock rather than synchronized: the caller may be a virtual thread
+	 * blocking on network I/O).
+	 */
+	private String getOAuth2Token() throws URISyntaxException, IOException, InterruptedException {
+		tokenLock.lock();
+		try {
+			final String cachedToken = tokenCache.get();
+			return cachedToken != null ? cachedToken : requestOAuth2Token();
+		}
+		finally {
+			tokenLock.unlock();
+		}
+	}
+
+	private String requestOAuth2Token() throws URISyntaxException, IOException, InterruptedException {
+		final String uri = String.format("https://%s/ords/testpilot/oauth/token", apiHOST);
+
+		final HttpRequest request = HttpRequest.newBuilder()
+				.uri(new URI(uri))
+				.version(ordsHttpVersion)
+				.headers("Accept", "application/json",
+						"Content-Type", "application/x-www-form-urlencoded",
+						"Pragma", "no-cache",
+						"Cache-Control", "no-store",
+						"User-Agent", "setup-testpilot/" + Main.VERSION,
+						"Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING,
+						"Authorization", basicAuth())
+				.POST(HttpRequest.BodyPublishers.ofString("grant_type=client_credentials"))
+				.build();
+
+		final HttpResponse<InputStream> response = client.send(request, DecompressingBodyHandler.of(HttpResponse.BodyHandlers.ofInputStream()));
+
+		if (response.statusCode() == 200) {
+			OAuthToken oauthToken = new JSON<>(OAuthToken.class).parse(response.body());
+			tokenCache.put(oauthToken.getAccess_token(), oauthToken.getExpires_in());
+			return oauthToken.getAccess_token();
+		}
+		else {
+			response.body().close();
+			throw new TestPilotException(RETRIEVE_OAUTH2_TOKEN,
+					new IllegalStateException("HTTP/S status code: " + response.statusCode()));
+		}
+	}
+
+	/**
+	 * Encodes the body of the create and delete requests: <code>{"runID":"...","type":"...","user":["...",...]}</code>.
+	 */
+	private HttpRequest.BodyPublisher resourceRequestBody(final String runID, final String type, final String users, final boolean create) {
+		final String[] usersArray = users.split(",");
+		if(usersArray.length > MAX_USERS) {
+			throw new TestPilotException(TOO_MANY_USERS_PROVIDED);
+		}
+
+		final JSONWriter requestBody = new JSONWriter()
+				.beginObject()
+				.name("runID").value(runID)
+				.name("type").value(type)
+				.name("user").beginArray();
+		for (String user : usersArray) {
+			if(user.isEmpty() || user.length() > MAX_USER_LENGTH) {
+				throw new TestPilotException(create ? CREATE_DATABASE_WRONG_USER_NAME_LENGTH : DROP_DATABASE_WRONG_USER_NAME_LENGTH);
+			}
+			requestBody.value(user);
+		}
+		requestBody.endArray().endObject();
+
+		return requestBody.bodyPublisher();
+	}
+
+	/**
+	 * Inverse of {@link #getInternalTechnologyType(String)}.
+	 */
+	private static String getServiceName(final String type) {
+		return switch (type) {
+			case TechnologyType.AUTONOMOUS19C -> "autonomous-transaction-processing-serverless-19c";
+			case TechnologyType.AUTONOMOUS26AI -> "autonomous-transaction-processing-serverless-26ai";
+			case TechnologyType.DB19C -> "base-database-service-19c";
+			case TechnologyType.DB21C -> "base-database-service-21c";
+			case TechnologyType.DB23AI -> "base-database-service-23ai";
+			case TechnologyType.DB26AI -> "base-database-service-26ai";
+			default -> throw new IllegalArgumentException(type);
+		};
+	}
+
+	private String getInternalTechnologyType(String technologyType) {
+		return switch (technologyType) {
+			case "autonomous-transaction-processing-serverless-19c" -> TechnologyType.AUTONOMOUS19C;
+			case "autonomous-transaction-processing-serverless", "autonomous-transaction-processing-serverless-26ai" -> TechnologyType.AUTONOMOUS26AI;
+			case "base-database-service-19c" -> TechnologyType.DB19C;
+			case "base-database-service-21c" -> TechnologyType.DB21C;
+			case "base-database-service-23ai" -> TechnologyType.DB23AI;
+			case "base-database-service-26ai" -> TechnologyType.DB26AI;
+			default -> null;
+		};
+	}
+
+	private String basicAuth() {
+		return String.format("Basic %s", Base64.getEncoder().encodeToString((String.format("%s:%s", clientId, clientSecret)).getBytes()));
+	}
+
+	/**
+	 * Analyze the list of files changed by a PR and compare it
+	 * with a list of files and folder prefixes that must not trigger any
+	 * build and test (example: documentation). In that case, the response
+	 * is clear: no need to build.
+	 */
+	private void skipTesting() {
+		// the local source does not call the GitHub API
+		if (!SOURCE_LOCAL.equals(source)) {
+			if (owner == null || owner.isEmpty()) {
+				throw new TestPilotException(SKIP_TESTING_MISSING_OWNER);
+			}
+			if (repository == null || repository.isEmpty()) {
+				throw new TestPilotException(SKIP_TESTING_MISSING_REPOSITORY);
+			}
+			if (pullRequestNumber == null || pullRequestNumber.isEmpty()) {
+				throw new TestPilotException(SKIP_TESTING_MISSING_PULL_REQUEST_NUMBER);
+			}
+		}
+		if (prefixList == null || prefixList.isEmpty()) {
+			throw new TestPilotException(SKIP_TESTING_MISSING_PREFIX_LIST);
+		}
+
+		try {
+			// prefixes and glob patterns compiled once
+			final PathPatternMatcher matcher = PathPatternMatcher.compile(prefixList.split(","));
+
+			final FilesAnalysis analysis = switch (source) {
+				case SOURCE_FILES -> analyzePullRequestFiles(matcher);
+				case SOURCE_LOCAL -> analyzeLocalChanges(matcher);
+				default -> analyzeCommits(matcher);
+			};
+			if (analysis.requiringTests() != null) {
+				out.println("File requiring tests: "+analysis.requiringTests()+" (analysis stopped, use --exact-count to count all the files).");
+			}
+			out.println("File(s) analyzed: "+analysis.files()+".");
+			out.println("File(s) matching avoidance prefix(es): "+analysis.matching()+".");
+
+			// files of a commit that could not be analyzed may require tests
+			if (analysis.requiringTests() == null && analysis.complete() && analysis.files() == analysis.matching()) {
+				out.println("Safe to skip tests? ==> YES");
+				if(githubOutput != null) {
+					try (PrintWriter out = new PrintWriter(new BufferedOutputStream(new FileOutputStream(githubOutput, true)))) {
+						out.println("skip_tests=yes");
+					}
+				}
+			}
+			else {
+				out.println("Safe to skip tests? ==> NO");
+				if(githubOutput != null) {
+					try (PrintWriter out = new PrintWriter(new BufferedOutputStream(new FileOutputStream(githubOutput, true)))) {
+						out.println("skip_tests=no");
+					}
+				}
+			}
+		}
+		catch (URISyntaxException e) {
+			throw new TestPilotException(SKIP_TESTING_WRONG_URI, e);
+		}
+		catch (IOException | InterruptedException e) {
+			throw new TestPilotException(SKIP_TESTING_WRONG_REST_CALL, e);
+		}
+		finally {
+			httpCache.save();
+		}
+	}
+
+	/**
+	 * Number of files analyzed and of files matching any prefix. Not complete if some files could not be
+	 * retrieved. Unless counting exactly, the analysis stops at the first file requiring tests.
+	 */
+	private record FilesAnalysis(int files, int matching, boolean complete, String requiringTests) {
+	}
+
+	/**
+	 * Analyzes the net changes of the PR using the files endpoint: one request per 100 files, a file
+	 * changed by several commits being counted once. The endpoint lists 3000 files at most: the analysis of a
+	 * larger PR is not complete.
+	 */
+	private FilesAnalysis analyzePullRequestFiles(final PathPatternMatcher matcher) throws URISyntaxException, IOException, InterruptedException {
+		int totalFilesNumber = 0;
+		int totalFilesMatchingAnyPrefix = 0;
+
+		URI uri = new URI(String.format("https://api.github.com/repos/%s/%s/pulls/%s/files?per_page=%d", owner, repository, pullRequestNumber, GITHUB_PAGE_SIZE));
+		do {
+			final HttpCache.Entry page = getGitHubPage(uri, body -> filenames(new JSON<>(GitHubFilename[].class).parse(body)));
+
+			final int[] counters = countMatchingFiles(page.values(), matcher);
+			totalFilesNumber += counters[0];
+			totalFilesMatchingAnyPrefix += counters[1];
+
+			if (!exactCount && counters[0] != counters[1]) {
+				// the answer is known: the next pages are not read
+				return new FilesAnalysis(totalFilesNumber, totalFilesMatchingAnyPrefix, true, firstFileRequiringTests(page.values(), matcher));
+			}
+
+			uri = page.next() == null ? null : new URI(page.next());
+		} while (uri != null);
+
+		if (totalFilesNumber >= GITHUB_PULL_REQUEST_FILES_LIMIT) {
+			// the files beyond the limit are not listed: they may require tests
+			out.println("GitHub lists " + GITHUB_PULL_REQUEST_FILES_LIMIT + " files of a pull request at most: the files beyond them, if any, could not be analyzed.");
+			return new FilesAnalysis(totalFilesNumber, totalFilesMatchingAnyPrefix, false, null);
+		}
+		return new FilesAnalysis(totalFilesNumber, totalFilesMatchingAnyPrefix, true, null);
+	}
+
+	/**
+	 * Analyzes the paths changed between the base and head revisions, read from the local repository: no
+	 * request at all, but the checkout must contain both revisions (fetch depth of 2 for HEAD^1).
+	 */
+	private FilesAnalysis analyzeLocalChanges(final PathPatternMatcher matcher) {
+		final int[] counters = new int[2];
+		final String[] requiringTests = new String[1];
+
+		try (GitRepository git = GitRepository.open(workingDirectory.resolve(workTree))) {
+			git.diff(base, head, path -> {
+				counters[0]++;
+				if (matcher.matches(path)) {
+					counters[1]++;
+					return true;
+				}
+				if (exactCount) {
+					return true;
+				}
+				// the answer is known: the diff stops here
+				requiringTests[0] = path;
+				return false;
+			});
+		}
+		catch (IOException e) {
+			throw new TestPilotException(SKIP_TESTING_LOCAL_REPOSITORY_ISSUE, e);
+		}
+
+		return new FilesAnalysis(counters[0], counters[1], true, requiringTests[0]);
+	}
+
+	/**
+	 * Analyzes the files of each commit of the PR, one request per commit.
+	 */
+	private FilesAnalysis analyzeCommits(final PathPatternMatcher matcher) throws URISyntaxException, IOException, InterruptedException {
+		final List<String> commits = new ArrayList<>();
+
+		URI uri = new URI(String.format("https://api.github.com/repos/%s/%s/pulls/%s/commits?per_page=%d", owner, repository, pullRequestNumber, GITHUB_PAGE_SIZE));
+		do {
+			final HttpCache.Entry page = getGitHubPage(uri, body -> {
+				final GitHubPullRequestCommits[] pageCommits = new JSON<>(GitHubPullRequestCommits[].class).parse(body);
+				if (pageCommits == null) {
+					return null;
+				}
+				final String[] urls = new String[pageCommits.length];
+				for (int i = 0; i < urls.length; i++) {
+					urls[i] = pageCommits[i].getUrl();
+				}
+				return urls;
+			});
+
+			commits.addAll(List.of(page.values()));
+
+			uri = page.next() == null ? null : new URI(page.next());
+		} while (uri != null);
+
+		out.println("Pull Request contains "+commits.size()+" commit(s).");
+
+		// commit details are fetched concurrently, at most maxConcurrency at a time to stay within the GitHub
+		// secondary rate limits
+		final Semaphore permits = new Semaphore(maxConcurrency);
+		final List<CompletableFuture<int[]>> fetches = new ArrayList<>(commits.size());
+
+		// unless counting exactly, the first file requiring tests stops the analysis: the exchanges in flight
+		// are cancelled (aborting the HTTP exchanges) and the remaining commits are not requested
+		final AtomicReference<String> requiringTests = new AtomicReference<>();
+		final List<CompletableFuture<?>> exchanges = new CopyOnWriteArrayList<>();
+		final Consumer<String> stop = filename -> {
+			if (!exactCount && requiringTests.compareAndSet(null, filename)) {
+				for (CompletableFuture<?> exchange : exchanges) {
+					exchange.cancel(true);
+				}
+			}
+		};
+
+		for(String commit : commits) {
+			if (requiringTests.get() != null) {
+				break;
+			}
+
+			final HttpCache.Entry cached = httpCache.get(commit);
+
+			// filenames are matched against the prefixes while the commit details are still being received,
+			// each commit having its own counters (files, files matching any prefix) and filenames to cache
+			final int[] counters = new int[2];
+			final List<String> filenames = new ArrayList<>();
+			final JSONSubscriber<GitHubCommittedFiles> subscriber = new JSONSubscriber<>(GitHubCommittedFiles.class)
+					.onArrayElement("files", GitHubFilename.class, filename -> {
+						counters[0]++;
+						if (matchesAnyPrefix(filename.getFilename(), filename.getPrevious_filename(), matcher)) {
+							counters[1]++;
+						}
+						else {
+							stop.accept(filename.getFilename());
+						}
+						filenames.add(filename.getFilename());
+						filenames.add(filename.getPrevious_filename() == null ? "" : filename.getPrevious_filename());
+					});
+
+			permits.acquire();
+			final CompletableFuture<HttpResponse<GitHubCommittedFiles>> exchange = client.sendAsync(gitHubRequest(new URI(commit), cached),
+					DecompressingBodyHandler.of(responseInfo -> responseInfo.statusCode() == 200 ?
+							HttpResponse.BodySubscribers.fromSubscriber(subscriber, JSONSubscriber::getResult) :
+							HttpResponse.BodySubscribers.replacing(null)));
+			exchanges.add(exchange);
+			if (requiringTests.get() != null) {
+				// stopped while this exchange was being sent
+				exchange.cancel(true);
+			}
+
+			fetches.add(exchange
+					.whenComplete((committedFilesResponse, failure) -> permits.release())
+					.handle((committedFilesResponse, failure) -> {
+						if (failure != null) {
+							if (subscriber.getFailure() == null || requiringTests.get() != null) {
+								throw failure instanceof CompletionException ce ? ce : new CompletionException(failure);
+							}
+							// unreadable or truncated details: the files received are not all the files of the commit
+							out.println("Commit " + commit + " could not be analyzed (" + subscriber.getFailure().getMessage() + ").");
+							return null;
+						}
+						if (committedFilesResponse.statusCode() == 304 && cached != null) {
+							final int[] cachedCounters = countMatchingFiles(cached.values(), matcher);
+							if (cachedCounters[0] != cachedCounters[1]) {
+								stop.accept(firstFileRequiringTests(cached.values(), matcher));
+							}
+							return cachedCounters;
+						}
+						if (committedFilesResponse.statusCode() != 200 || committedFilesResponse.body() == null) {
+							out.println("Commit " + commit + " could not be analyzed (" + committedFilesResponse.statusCode() + ").");
+							return null;
+						}
+						httpCache.put(commit, new HttpCache.Entry(committedFilesResponse.headers().firstValue("ETag").orElse(null),
+								null, filenames.toArray(new String[0])));
+						return counters;
+					}));
+		}
+
+		// aggregated in the commits order once all the fetches completed: the result does not depend on
+		// the order of the responses
+		int totalFilesNumber = 0;
+		int totalFilesMatchingAnyPrefix = 0;
+		boolean allCommitsAnalyzed = true;
+		for (CompletableFuture<int[]> fetch : fetches) {
+			final int[] counters;
+			try {
+				counters = join(fetch);
+			}
+			catch (IOException | CancellationException e) {
+				if (requiringTests.get() != null) {
+					// cancelled once the answer was known
+					continue;
+				}
+				throw e;
+			}
+			if (counters == null) {
+				allCommitsAnalyzed = false;
+			}
+			else {
+				totalFilesNumber += counters[0];
+				totalFilesMatchingAnyPrefix += counters[1];
+			}
+		}
+
+		return new FilesAnalysis(totalFilesNumber, totalFilesMatchingAnyPrefix, allCommitsAnalyzed, requiringTests.get());
+	}
+
+	/**
+	 * Reads one page of a paginated GitHub API result, reduced to its compact form (null if the response is
+	 * invalid). The request is conditional if the page is cached: the cached result is used when not modified.
+	 */
+	private HttpCache.Entry getGitHubPage(final URI uri, final Function<byte[], String[]> compact) throws URISyntaxException, IOException, InterruptedException {
+		final HttpCache.Entry cached = httpCache.get(uri.toString());
+
+		final HttpResponse<byte[]> response = client.send(gitHubRequest(uri, cached), DecompressingBodyHandler.of(HttpResponse.BodyHandlers.ofByteArray()));
+
+		if (response.statusCode() == 304 && cached != null) {
+			return cached;
+		}
+		if (response.statusCode() != 200) {
+			throw new TestPilotException(SKIP_TESTING_REST_ENDPOINT_ISSUE,
+					new IllegalStateException("HTTP/S status code: " + response.statusCode()));
+		}
+
+		final String[] values = compact.apply(response.body());
+		if (values == null) {
+			throw new TestPilotException(SKIP_TESTING_REST_ENDPOINT_ISSUE, new IllegalStateException("Invalid JSON response from " + uri));
+		}
+
+		final URI next = nextPage(response.headers());
+		final HttpCache.Entry page = new HttpCache.Entry(response.headers().firstValue("ETag").orElse(null),
+				next == null ? null : next.toString(), values);
+		httpCache.put(uri.toString(), page);
+		return page;
+	}
+
+	/**
+	 * Compact form of files: for each file, its name and its previous name (empty if not renamed).
+	 */
+	private static String[] filenames(final GitHubFilename[] files) {
+		if (files == null) {
+			return null;
+		}
+		final String[] filenames = new String[files.length << 1];
+		for (int i = 0; i < files.length; i++) {
+			filenames[i << 1] = files[i].getFilename();
+			filenames[(i << 1) + 1] = files[i].getPrevious_filename() == null ? "" : files[i].getPrevious_filename();
+		}
+		return filenames;
+	}
+
+	/**
+	 * Returns the first file (compact form) not matching any prefix, null if none.
+	 */
+	private static String firstFileRequiringTests(final String[] filenames, final PathPatternMatcher matcher) {
+		for (int i = 0; i < filenames.length; i += 2) {
+			if (!matchesAnyPrefix(filenames[i], filenames[i + 1].isEmpty() ? null : filenames[i + 1], matcher)) {
+				return filenames[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Counts the files (compact form) and the ones matching any prefix.
+	 */
+	private static int[] countMatchingFiles(final String[] filenames, final PathPatternMatcher matcher) {
+		final int[] counters = new int[2];
+		for (int i = 0; i < filenames.length; i += 2) {
+			counters[0]++;
+			if (matchesAnyPrefix(filenames[i], filenames[i + 1].isEmpty() ? null : filenames[i + 1], matcher)) {
+				counters[1]++;
+			}
+		}
+		return counters;
+	}
+
+	/**
+	 * A renamed file matches only if both its previous and new names match.
+	 */
+	private static boolean matchesAnyPrefix(final String filename, final String previousFilename, final PathPatternMatcher matcher) {
+		return matcher.matches(filename) && (previousFilename == null || matcher.matches(previousFilename));
+	}
+
+	/**
+	 * Builds a GitHub API request, conditional if a cached result is given.
+	 */
+	private static HttpRequest gitHubRequest(final URI uri, final HttpCache.Entry cached) {
+		final HttpRequest.Builder builder = HttpRequest.newBuilder()
+				.uri(uri)
+				.headers("Accept", "application/vnd.github+json",
+						"User-Agent", "setup-testpilot/" + Main.VERSION,
+						"Accept-Encoding", DecompressingBodyHandler.ACCEPT_ENCODING)
+				.GET();
+		if (cached != null) {
+			builder.header("If-None-Match", cached.etag());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Returns the URI of the next page given by the <code>Link</code> header of a paginated GitHub response,
+	 * null if this is the last page. Example: <code>&lt;https://api.github.com/...&amp;page=2&gt;; rel="next", &lt;...&gt;; rel="last"</code>
+	 */
+	static URI nextPage(final HttpHeaders headers) throws URISyntaxException {
+		for (String link : headers.allValues("Link")) {
+			for (String value : link.split(",")) {
+				final int end = value.indexOf('>');
+				if (end > 0 && value.indexOf("rel=\"next\"", end) > 0) {
+					return new URI(value.substring(value.indexOf('<') + 1, end).trim());
+				}
+			}
+		}
+		return null;
+	}
+}
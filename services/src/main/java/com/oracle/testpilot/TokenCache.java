@@ -0,0 +1,132 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * OAuth2 access token cache honoring the token lifetime (<code>expires_in</code>).
+ * <p>
+ * Tokens are kept in memory for the session and persisted to a file under <code>RUNNER_TEMP</code>, readable
+ * by the owner only, so that the following steps of the same job reuse them instead of requesting a new one.
+ * The file name is a hash of the API host and client id: neither appears on disk in clear.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class TokenCache {
+	// a token expiring within this delay is considered expired: it could expire in flight
+	private static final long EXPIRY_MARGIN_SECONDS = 60;
+
+	// null if tokens cannot be persisted
+	private final Path file;
+
+	private String token;
+	private long expiresAt; // epoch seconds
+
+	/**
+	 * @param directory directory where to persist tokens (typically <code>RUNNER_TEMP</code>), null to keep
+	 *                  them in memory only
+	 */
+	TokenCache(final String directory, final String apiHost, final String clientId) {
+		this.file = directory == null || directory.isEmpty() ? null : Path.of(directory, "testpilot-token-" + hash(apiHost + '\n' + clientId));
+	}
+
+	/**
+	 * Returns a valid cached token, or null if none.
+	 */
+	synchronized String get() {
+		final long now = System.currentTimeMillis() / 1000L;
+		if (token != null && now < expiresAt - EXPIRY_MARGIN_SECONDS) {
+			return token;
+		}
+
+		if (file != null) {
+			try {
+				final List<String> lines = Files.readAllLines(file, StandardCharsets.US_ASCII);
+				if (lines.size() == 2) {
+					final long persistedExpiresAt = Long.parseLong(lines.get(0));
+					if (now < persistedExpiresAt - EXPIRY_MARGIN_SECONDS) {
+						token = lines.get(1);
+						expiresAt = persistedExpiresAt;
+						return token;
+					}
+				}
+			}
+			catch (IOException | NumberFormatException ignored) {
+				// no usable persisted token
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Caches a new token. Without lifetime, the token is kept in memory for this session only.
+	 */
+	synchronized void put(final String newToken, final Long expiresIn) {
+		token = newToken;
+		if (expiresIn == null) {
+			expiresAt = Long.MAX_VALUE;
+			return;
+		}
+		expiresAt = System.currentTimeMillis() / 1000L + expiresIn;
+
+		if (file != null) {
+			try {
+				final Path temporary = createPrivateFile(file.resolveSibling(file.getFileName() + ".tmp"));
+				Files.writeString(temporary, expiresAt + "\n" + newToken + "\n", StandardCharsets.US_ASCII);
+				Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (IOException | UnsupportedOperationException ignored) {
+				// persistence is best effort: the token remains cached in memory
+			}
+		}
+	}
+
+	/**
+	 * Forgets the cached token, for example once rejected by the server.
+	 */
+	synchronized void invalidate() {
+		token = null;
+		expiresAt = 0;
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ignored) {
+				// will be overwritten by the next token
+			}
+		}
+	}
+
+	private static Path createPrivateFile(final Path path) throws IOException {
+		Files.deleteIfExists(path);
+		if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			return Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+		}
+		return Files.createFile(path);
+	}
+
+	private static String hash(final String value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)), 0, 16);
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+}
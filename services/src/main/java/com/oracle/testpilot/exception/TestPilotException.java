@@ -42,6 +42,30 @@ public class TestPilotException extends RuntimeException {
 	public static final int DROP_DATABASE_MISSING_USER_NAME = 32;
 	public static final int DROP_DATABASE_MISSING_DB_TYPE = 33;
 	public static final int DROP_DATABASE_REST_ENDPOINT_ISSUE = 34;
+	public static final int HTTP_VERSION_MISSING_PARAMETER = 35;
+	public static final int WRONG_HTTP_VERSION_PARAMETER = 36;
+	public static final int RETRY_LIMIT_REACHED = 37;
+	public static final int MAX_ATTEMPTS_MISSING_PARAMETER = 38;
+	public static final int WRONG_MAX_ATTEMPTS_PARAMETER = 39;
+	public static final int RETRY_TIMEOUT_MISSING_PARAMETER = 40;
+	public static final int WRONG_RETRY_TIMEOUT_PARAMETER = 41;
+	public static final int HANDLE_MISSING_PARAMETER = 42;
+	public static final int WRONG_HANDLE_PARAMETER = 43;
+	public static final int AWAIT_MISSING_HANDLE = 44;
+	public static final int MAX_CONCURRENCY_MISSING_PARAMETER = 45;
+	public static final int WRONG_MAX_CONCURRENCY_PARAMETER = 46;
+	public static final int SOURCE_MISSING_PARAMETER = 47;
+	public static final int WRONG_SOURCE_PARAMETER = 48;
+	public static final int SKIP_TESTING_LOCAL_REPOSITORY_ISSUE = 49;
+	public static final int BASE_MISSING_PARAMETER = 50;
+	public static final int HEAD_MISSING_PARAMETER = 51;
+	public static final int WORK_TREE_MISSING_PARAMETER = 52;
+	public static final int DAEMON_SOCKET_ISSUE = 53;
+	public static final int READY_TIMEOUT_MISSING_PARAMETER = 54;
+	public static final int WRONG_READY_TIMEOUT_PARAMETER = 55;
+	public static final int DATABASE_NOT_READY = 56;
+	public static final int CREATE_DATABASE_INTERRUPTED = 57;
+	public static final int NO_WAIT_MISSING_RUNNER_TEMP = 58;
 
 	private final int errorCode;
 
@@ -0,0 +1,32 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.git;
+
+/**
+ * Inflated git object.
+ *
+ * @param type pack type code: 1 commit, 2 tree, 3 blob, 4 tag
+ * @param data content, without the loose object header
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+record GitObject(int type, byte[] data) {
+	static final int COMMIT = 1;
+	static final int TREE = 2;
+	static final int BLOB = 3;
+	static final int TAG = 4;
+
+	static int type(final String name) {
+		return switch (name) {
+			case "commit" -> COMMIT;
+			case "tree" -> TREE;
+			case "blob" -> BLOB;
+			case "tag" -> TAG;
+			default -> -1;
+		};
+	}
+}
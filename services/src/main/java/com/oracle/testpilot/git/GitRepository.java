@@ -0,0 +1,462 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.git;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Read-only access to a local git repository, without any external <code>git</code> process: loose objects,
+ * pack files (see {@link PackFile}), loose and packed references.
+ * <p>
+ * Only what is needed to list the paths changed between two revisions is supported. The objects of both
+ * revisions must be present: a shallow clone needs a depth of at least 2 to compare <code>HEAD</code> with
+ * its parent.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class GitRepository implements AutoCloseable {
+	private static final int MODE_TREE = 0040000;
+	private static final int MODE_TYPE_MASK = 0170000;
+
+	private static final String[] REF_PREFIXES = {"", "refs/", "refs/tags/", "refs/heads/", "refs/remotes/"};
+
+	// per working tree: HEAD
+	private final Path gitDir;
+	// shared by the working trees: objects and references
+	private final Path commonDir;
+	private final Path objectsDir;
+
+	private List<PackFile> packs;
+
+	private GitRepository(final Path gitDir, final Path commonDir) {
+		this.gitDir = gitDir;
+		this.commonDir = commonDir;
+		this.objectsDir = commonDir.resolve("objects");
+	}
+
+	/**
+	 * Opens the repository of a working tree: its <code>.git</code> directory, or the one referenced by its
+	 * <code>.git</code> file (linked working trees, submodules).
+	 */
+	public static GitRepository open(final Path workTree) throws IOException {
+		Path gitDir = workTree.resolve(".git");
+		if (Files.isRegularFile(gitDir)) {
+			final String content = Files.readString(gitDir).trim();
+			if (!content.startsWith("gitdir:")) {
+				throw new IOException("Invalid .git file: " + gitDir);
+			}
+			gitDir = workTree.resolve(content.substring("gitdir:".length()).trim()).normalize();
+		}
+		if (!Files.isDirectory(gitDir)) {
+			throw new IOException("Not a git repository: " + workTree.toAbsolutePath());
+		}
+
+		Path commonDir = gitDir;
+		final Path commonDirFile = gitDir.resolve("commondir");
+		if (Files.isRegularFile(commonDirFile)) {
+			commonDir = gitDir.resolve(Files.readString(commonDirFile).trim()).normalize();
+		}
+		return new GitRepository(gitDir, commonDir);
+	}
+
+	/**
+	 * Lists the paths of the files added, deleted or modified between two revisions, in git order. A renamed
+	 * file is listed under both its previous and new paths.
+	 *
+	 * @param base     base revision: name, reference or expression such as <code>HEAD^1</code>
+	 * @param head     head revision
+	 * @param consumer called for each changed path, returns false to stop the diff
+	 * @return true if all the changed paths were given to the consumer
+	 */
+	public boolean diff(final String base, final String head, final Predicate<String> consumer) throws IOException {
+		return diffTrees(tree(resolve(base)), tree(resolve(head)), "", consumer);
+	}
+
+	/**
+	 * Returns the paths changed between two revisions.
+	 */
+	public List<String> changedPaths(final String base, final String head) throws IOException {
+		final List<String> paths = new ArrayList<>();
+		diff(base, head, paths::add);
+		return paths;
+	}
+
+	/**
+	 * Resolves a revision: full object name, <code>HEAD</code>, branch, tag or other reference, followed by any
+	 * number of <code>^</code>, <code>^N</code>, <code>~</code> and <code>~N</code> suffixes.
+	 */
+	ObjectId resolve(final String revision) throws IOException {
+		int end = revision.length();
+		for (int i = 0; i < revision.length(); i++) {
+			if (revision.charAt(i) == '^' || revision.charAt(i) == '~') {
+				end = i;
+				break;
+			}
+		}
+
+		final String name = revision.substring(0, end);
+		ObjectId id = ObjectId.parse(name);
+		if (id == null) {
+			id = resolveReference(name);
+		}
+		if (id == null) {
+			throw new IOException("Unknown revision: " + revision);
+		}
+
+		int i = end;
+		while (i < revision.length()) {
+			final char operator = revision.charAt(i++);
+			int number = 1;
+			final int start = i;
+			while (i < revision.length() && Character.isDigit(revision.charAt(i))) {
+				i++;
+			}
+			if (i > start) {
+				number = Integer.parseInt(revision.substring(start, i));
+			}
+
+			if (operator == '^') {
+				id = number == 0 ? peel(id) : parent(id, number, revision);
+			}
+			else if (operator == '~') {
+				for (int n = 0; n < number; n++) {
+					id = parent(id, 1, revision);
+				}
+			}
+			else {
+				throw new IOException("Unsupported revision: " + revision);
+			}
+		}
+		return id;
+	}
+
+	private ObjectId resolveReference(final String name) throws IOException {
+		if (name.equals("HEAD")) {
+			return readReference("HEAD", 0);
+		}
+		for (String prefix : REF_PREFIXES) {
+			final ObjectId id = readReference(prefix + name, 0);
+			if (id != null) {
+				return id;
+			}
+		}
+		return readReference("refs/remotes/" + name + "/HEAD", 0);
+	}
+
+	private ObjectId readReference(final String name, final int depth) throws IOException {
+		if (depth > 5) {
+			throw new IOException("Too many symbolic references: " + name);
+		}
+
+		// HEAD and per working tree references first
+		for (Path dir : gitDir.equals(commonDir) ? List.of(gitDir) : List.of(gitDir, commonDir)) {
+			final Path file = dir.resolve(name);
+			if (Files.isRegularFile(file)) {
+				final String content = Files.readString(file).trim();
+				if (content.startsWith("ref:")) {
+					return readReference(content.substring("ref:".length()).trim(), depth + 1);
+				}
+				return ObjectId.parse(content);
+			}
+		}
+
+		final Path packedRefs = commonDir.resolve("packed-refs");
+		if (Files.isRegularFile(packedRefs)) {
+			for (String line : Files.readAllLines(packedRefs)) {
+				// comment, or peeled value of the previous annotated tag
+				if (line.startsWith("#") || line.startsWith("^")) {
+					continue;
+				}
+				final int space = line.indexOf(' ');
+				if (space > 0 && line.substring(space + 1).equals(name)) {
+					return ObjectId.parse(line.substring(0, space));
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Follows annotated tags up to the object they point to.
+	 */
+	private ObjectId peel(ObjectId id) throws IOException {
+		GitObject object = read(id);
+		while (object.type() == GitObject.TAG) {
+			id = header(object, "object");
+			object = read(id);
+		}
+		return id;
+	}
+
+	private ObjectId parent(final ObjectId id, final int number, final String revision) throws IOException {
+		final GitObject commit = commit(id);
+		int n = 0;
+		for (String line : headers(commit)) {
+			if (line.startsWith("parent ") && ++n == number) {
+				return ObjectId.parse(line.substring("parent ".length()));
+			}
+		}
+		throw new IOException("No parent " + number + " for " + revision + " (shallow clone?)");
+	}
+
+	private GitObject commit(final ObjectId id) throws IOException {
+		final GitObject object = read(peel(id));
+		if (object.type() != GitObject.COMMIT) {
+			throw new IOException("Not a commit: " + id);
+		}
+		return object;
+	}
+
+	private ObjectId tree(final ObjectId id) throws IOException {
+		final ObjectId peeled = peel(id);
+		final GitObject object = read(peeled);
+		return switch (object.type()) {
+			case GitObject.TREE -> peeled;
+			case GitObject.COMMIT -> header(object, "tree");
+			default -> throw new IOException("Not a commit nor a tree: " + id);
+		};
+	}
+
+	private static ObjectId header(final GitObject object, final String key) throws IOException {
+		for (String line : headers(object)) {
+			if (line.startsWith(key + " ")) {
+				return ObjectId.parse(line.substring(key.length() + 1));
+			}
+		}
+		throw new IOException("Missing " + key + " header");
+	}
+
+	/**
+	 * Header lines of a commit or of a tag, up to the first empty line.
+	 */
+	private static List<String> headers(final GitObject object) {
+		final byte[] data = object.data();
+		final List<String> lines = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < data.length; i++) {
+			if (data[i] == '\n') {
+				if (i == start) {
+					break;
+				}
+				lines.add(new String(data, start, i - start, StandardCharsets.UTF_8));
+				start = i + 1;
+			}
+		}
+		return lines;
+	}
+
+	/**
+	 * Merges the sorted entries of both trees: entries with the same name, mode and object name are skipped
+	 * without being read, sub-trees differing on both sides are compared recursively.
+	 */
+	private boolean diffTrees(final ObjectId base, final ObjectId head, final String path, final Predicate<String> consumer) throws IOException {
+		if (base != null && base.equals(head)) {
+			return true;
+		}
+
+		final TreeCursor left = new TreeCursor(base == null ? new byte[0] : read(base, GitObject.TREE));
+		final TreeCursor right = new TreeCursor(head == null ? new byte[0] : read(head, GitObject.TREE));
+
+		while (!left.done() || !right.done()) {
+			final int c = left.done() ? 1 : right.done() ? -1 : left.compareTo(right);
+			if (c < 0) {
+				if (!whole(left, path, consumer)) {
+					return false;
+				}
+				left.next();
+			}
+			else if (c > 0) {
+				if (!whole(right, path, consumer)) {
+					return false;
+				}
+				right.next();
+			}
+			else {
+				if (left.mode != right.mode || !left.sameObject(right)) {
+					if (left.isTree()) {
+						if (!diffTrees(left.id(), right.id(), path + left.name() + "/", consumer)) {
+							return false;
+						}
+					}
+					else if (!consumer.test(path + left.name())) {
+						return false;
+					}
+				}
+				left.next();
+				right.next();
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Entry present on one side only: a file, or all the files of a tree.
+	 */
+	private boolean whole(final TreeCursor cursor, final String path, final Predicate<String> consumer) throws IOException {
+		if (cursor.isTree()) {
+			return diffTrees(null, cursor.id(), path + cursor.name() + "/", consumer);
+		}
+		return consumer.test(path + cursor.name());
+	}
+
+	/**
+	 * Iterates over the entries of a tree: <code>mode name\0</code> followed by the 20 bytes object name.
+	 */
+	private static final class TreeCursor {
+		private final byte[] data;
+		private int position;
+		private int nameStart;
+		private int nameEnd;
+		private int mode;
+
+		TreeCursor(final byte[] data) {
+			this.data = data;
+			parse();
+		}
+
+		boolean done() {
+			return position >= data.length;
+		}
+
+		void next() {
+			position = nameEnd + 1 + ObjectId.LENGTH;
+			parse();
+		}
+
+		private void parse() {
+			if (done()) {
+				return;
+			}
+			int i = position;
+			mode = 0;
+			while (data[i] != ' ') {
+				mode = (mode << 3) + (data[i++] - '0');
+			}
+			nameStart = i + 1;
+			nameEnd = nameStart;
+			while (data[nameEnd] != 0) {
+				nameEnd++;
+			}
+		}
+
+		boolean isTree() {
+			return (mode & MODE_TYPE_MASK) == MODE_TREE;
+		}
+
+		String name() {
+			return new String(data, nameStart, nameEnd - nameStart, StandardCharsets.UTF_8);
+		}
+
+		ObjectId id() {
+			return ObjectId.of(data, nameEnd + 1);
+		}
+
+		boolean sameObject(final TreeCursor other) {
+			return Arrays.equals(data, nameEnd + 1, nameEnd + 1 + ObjectId.LENGTH,
+					other.data, other.nameEnd + 1, other.nameEnd + 1 + ObjectId.LENGTH);
+		}
+
+		/**
+		 * Git order: bytes of the names, the name of a tree being followed by a <code>/</code>.
+		 */
+		int compareTo(final TreeCursor other) {
+			for (int i = 0; ; i++) {
+				final int c = byteAt(i);
+				final int otherC = other.byteAt(i);
+				if (c != otherC) {
+					return c - otherC;
+				}
+				if (c < 0) {
+					return 0;
+				}
+			}
+		}
+
+		private int byteAt(final int i) {
+			final int length = nameEnd - nameStart;
+			if (i < length) {
+				return data[nameStart + i] & 0xFF;
+			}
+			return i == length && isTree() ? '/' : -1;
+		}
+	}
+
+	private byte[] read(final ObjectId id, final int type) throws IOException {
+		final GitObject object = read(id);
+		if (object.type() != type) {
+			throw new IOException("Unexpected object type for " + id);
+		}
+		return object.data();
+	}
+
+	/**
+	 * Reads an object from the packs, then from the loose objects.
+	 */
+	GitObject read(final ObjectId id) throws IOException {
+		for (PackFile pack : packs()) {
+			final GitObject object = pack.read(id, this);
+			if (object != null) {
+				return object;
+			}
+		}
+
+		final String name = id.toString();
+		final Path file = objectsDir.resolve(name.substring(0, 2)).resolve(name.substring(2));
+		try (InputStream in = new InflaterInputStream(Files.newInputStream(file))) {
+			final byte[] content = in.readAllBytes();
+			int space = 0;
+			while (content[space] != ' ') {
+				space++;
+			}
+			int end = space;
+			while (content[end] != 0) {
+				end++;
+			}
+			final int type = GitObject.type(new String(content, 0, space, StandardCharsets.US_ASCII));
+			return new GitObject(type, Arrays.copyOfRange(content, end + 1, content.length));
+		}
+		catch (NoSuchFileException nsfe) {
+			throw new IOException("Missing object " + name + " (shallow clone?)", nsfe);
+		}
+	}
+
+	private List<PackFile> packs() throws IOException {
+		if (packs == null) {
+			packs = new ArrayList<>();
+			final Path packDir = objectsDir.resolve("pack");
+			if (Files.isDirectory(packDir)) {
+				try (DirectoryStream<Path> indexes = Files.newDirectoryStream(packDir, "*.idx")) {
+					for (Path index : indexes) {
+						packs.add(new PackFile(index));
+					}
+				}
+			}
+		}
+		return packs;
+	}
+
+	@Override
+	public void close() {
+		if (packs != null) {
+			for (PackFile pack : packs) {
+				pack.close();
+			}
+		}
+	}
+}
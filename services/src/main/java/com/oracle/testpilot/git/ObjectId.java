@@ -0,0 +1,78 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.git;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * SHA-1 name of a git object.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class ObjectId {
+	static final int LENGTH = 20;
+
+	private final byte[] id;
+
+	private ObjectId(final byte[] id) {
+		this.id = id;
+	}
+
+	static ObjectId of(final byte[] buffer, final int offset) {
+		return new ObjectId(Arrays.copyOfRange(buffer, offset, offset + LENGTH));
+	}
+
+	/**
+	 * Parses a 40 hexadecimal digits name, returns null if invalid.
+	 */
+	static ObjectId parse(final String hex) {
+		if (hex.length() != LENGTH * 2) {
+			return null;
+		}
+		try {
+			return new ObjectId(HexFormat.of().parseHex(hex));
+		}
+		catch (IllegalArgumentException iae) {
+			return null;
+		}
+	}
+
+	int firstByte() {
+		return id[0] & 0xFF;
+	}
+
+	/**
+	 * Compares this name with the one stored in the buffer at the given offset.
+	 */
+	int compareTo(final ByteBuffer buffer, final int offset) {
+		for (int i = 0; i < LENGTH; i++) {
+			final int c = (id[i] & 0xFF) - (buffer.get(offset + i) & 0xFF);
+			if (c != 0) {
+				return c;
+			}
+		}
+		return 0;
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		return o instanceof ObjectId other && Arrays.equals(id, other.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(id);
+	}
+
+	@Override
+	public String toString() {
+		return HexFormat.of().formatHex(id);
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.git;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Pack file and its version 2 index, both memory-mapped. Objects are located through the index (fan-out
+ * table then binary search), inflated directly from the mapped pack and rebuilt from their delta chain if
+ * deltified.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class PackFile {
+	private static final int IDX_MAGIC = 0xFF744F63; // \377tOc
+	private static final int IDX_HEADER = 8;
+	private static final int FANOUT_SIZE = 256 * 4;
+
+	private static final int OFS_DELTA = 6;
+	private static final int REF_DELTA = 7;
+
+	// deltified objects of a diff share their bases (trees of consecutive revisions)
+	private static final int CACHE_SIZE = 256;
+
+	private final Path path;
+	private final MappedByteBuffer index;
+	private final MappedByteBuffer pack;
+	private final int count;
+
+	private final Map<Long, GitObject> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Long, GitObject> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private final Inflater inflater = new Inflater();
+
+	PackFile(final Path indexPath) throws IOException {
+		final String name = indexPath.getFileName().toString();
+		this.path = indexPath.resolveSibling(name.substring(0, name.length() - ".idx".length()) + ".pack");
+		this.index = map(indexPath);
+		this.pack = map(path);
+
+		if (index.getInt(0) != IDX_MAGIC || index.getInt(4) != 2) {
+			throw new IOException("Unsupported pack index version: " + indexPath);
+		}
+		count = index.getInt(IDX_HEADER + 255 * 4);
+	}
+
+	private static MappedByteBuffer map(final Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Pack file larger than 2GB: " + file);
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	/**
+	 * Returns the object, or null if not in this pack.
+	 */
+	GitObject read(final ObjectId id, final GitRepository repository) throws IOException {
+		final long offset = find(id);
+		return offset < 0 ? null : readAt(offset, repository);
+	}
+
+	private long find(final ObjectId id) {
+		final int first = id.firstByte();
+		int low = first == 0 ? 0 : index.getInt(IDX_HEADER + (first - 1) * 4);
+		int high = index.getInt(IDX_HEADER + first * 4) - 1;
+		final int names = IDX_HEADER + FANOUT_SIZE;
+
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int c = id.compareTo(index, names + middle * ObjectId.LENGTH);
+			if (c == 0) {
+				return offset(middle);
+			}
+			if (c < 0) {
+				high = middle - 1;
+			}
+			else {
+				low = middle + 1;
+			}
+		}
+		return -1;
+	}
+
+	private long offset(final int position) {
+		final int offsets = IDX_HEADER + FANOUT_SIZE + count * (ObjectId.LENGTH + 4);
+		final int offset = index.getInt(offsets + position * 4);
+		if (offset >= 0) {
+			return offset;
+		}
+		// most significant bit set: index in the 64 bits offsets table
+		return index.getLong(offsets + count * 4 + (offset & 0x7FFFFFFF) * 8);
+	}
+
+	private GitObject readAt(final long offset, final GitRepository repository) throws IOException {
+		final GitObject cached = cache.get(offset);
+		if (cached != null) {
+			return cached;
+		}
+
+		int position = (int) offset;
+		int c = pack.get(position++) & 0xFF;
+		final int type = (c >> 4) & 7;
+		long size = c & 15;
+		int shift = 4;
+		while ((c & 0x80) != 0) {
+			c = pack.get(position++) & 0xFF;
+			size |= (long) (c & 0x7F) << shift;
+			shift += 7;
+		}
+
+		final GitObject object;
+		switch (type) {
+			case OFS_DELTA -> {
+				c = pack.get(position++) & 0xFF;
+				long baseOffset = c & 0x7F;
+				while ((c & 0x80) != 0) {
+					c = pack.get(position++) & 0xFF;
+					baseOffset = ((baseOffset + 1) << 7) | (c & 0x7F);
+				}
+				final GitObject base = readAt(offset - baseOffset, repository);
+				object = new GitObject(base.type(), applyDelta(base.data(), inflate(position, size)));
+			}
+			case REF_DELTA -> {
+				final byte[] baseId = new byte[ObjectId.LENGTH];
+				pack.get(position, baseId);
+				final GitObject base = repository.read(ObjectId.of(baseId, 0));
+				object = new GitObject(base.type(), applyDelta(base.data(), inflate(position + ObjectId.LENGTH, size)));
+			}
+			default -> object = new GitObject(type, inflate(position, size));
+		}
+
+		cache.put(offset, object);
+		return object;
+	}
+
+	private byte[] inflate(final int position, final long size) throws IOException {
+		if (size > Integer.MAX_VALUE) {
+			throw new IOException("Object larger than 2GB in " + path);
+		}
+		final byte[] data = new byte[(int) size];
+		inflater.reset();
+		inflater.setInput(pack.slice(position, pack.limit() - position));
+		try {
+			int length = 0;
+			while (length < data.length) {
+				final int n = inflater.inflate(data, length, data.length - length);
+				if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IOException("Truncated object in " + path);
+				}
+				length += n;
+			}
+		}
+		catch (DataFormatException dfe) {
+			throw new IOException("Corrupted object in " + path, dfe);
+		}
+		return data;
+	}
+
+	/**
+	 * Rebuilds an object from its base and a delta: a sequence of copies from the base and of inserted data.
+	 */
+	static byte[] applyDelta(final byte[] base, final byte[] delta) throws IOException {
+		final ByteBuffer d = ByteBuffer.wrap(delta);
+		final long baseSize = readVarInt(d);
+		if (baseSize != base.length) {
+			throw new IOException("Delta base size mismatch");
+		}
+		final byte[] result = new byte[(int) readVarInt(d)];
+
+		int length = 0;
+		while (d.hasRemaining()) {
+			final int op = d.get() & 0xFF;
+			if ((op & 0x80) != 0) {
+				int offset = 0;
+				int size = 0;
+				for (int i = 0; i < 4; i++) {
+					if ((op & (1 << i)) != 0) {
+						offset |= (d.get() & 0xFF) << (i * 8);
+					}
+				}
+				for (int i = 0; i < 3; i++) {
+					if ((op & (0x10 << i)) != 0) {
+						size |= (d.get() & 0xFF) << (i * 8);
+					}
+				}
+				if (size == 0) {
+					size = 0x10000;
+				}
+				System.arraycopy(base, offset, result, length, size);
+				length += size;
+			}
+			else if (op != 0) {
+				d.get(result, length, op);
+				length += op;
+			}
+			else {
+				throw new IOException("Invalid delta instruction");
+			}
+		}
+
+		if (length != result.length) {
+			throw new IOException("Delta result size mismatch");
+		}
+		return result;
+	}
+
+	private static long readVarInt(final ByteBuffer buffer) {
+		long value = 0;
+		int shift = 0;
+		int c;
+		do {
+			c = buffer.get() & 0xFF;
+			value |= (long) (c & 0x7F) << shift;
+			shift += 7;
+		} while ((c & 0x80) != 0);
+		return value;
+	}
+
+	void close() {
+		inflater.end();
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per class binding plan computed once: the no-argument constructor and a field name to setter table, all
+ * resolved as {@link MethodHandle}s. Plans are cached in a {@link ClassValue} shared by every JSON binder so
+ * that binding a value costs a hash lookup plus a direct call, without any reflective lookup.
+ * <p>
+ * As before, a JSON member is bound when the class declares a field with the same name along with a public
+ * setter following the JavaBeans naming convention (<code>setName(Type)</code>); other members are ignored.
+ * Fields annotated with {@link JSONEmbedded} are bound from the JSON document held by the member string, and
+ * fields of a class type (alone or as array elements) using the binder of that class, as the generated binders do.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class BindingPlan {
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+		@Override
+		protected BindingPlan computeValue(final Class<?> type) {
+			return new BindingPlan(type);
+		}
+	};
+
+	static BindingPlan of(final Class<?> type) {
+		return PLANS.get(type);
+	}
+
+	/**
+	 * Binding information of one settable member.
+	 */
+	static final class Property {
+		final String name;
+		final Class<?> type;
+		final MethodHandle setter;
+		// for array properties: the array component type, null otherwise
+		final Class<?> componentType;
+		// for arrays of objects: true if elements must be bound using the component type binder
+		final boolean bindElements;
+		// for objects: true if the value must be bound using the property type binder
+		final boolean bindObject;
+		// true if the member is a string holding a JSON document to bind to the property type
+		final boolean embedded;
+
+		private Property(final String name, final Class<?> type, final MethodHandle setter, final boolean embedded) {
+			this.name = name;
+			this.type = type;
+			this.setter = setter;
+			this.embedded = embedded;
+			this.componentType = type.isArray() ? type.componentType() : null;
+			this.bindElements = componentType != null && isBindable(componentType);
+			this.bindObject = componentType == null && !embedded && isBindable(type);
+		}
+	}
+
+	private final Class<?> type;
+	private final MethodHandle constructor;
+	private final Map<String, Property> properties;
+
+	private BindingPlan(final Class<?> type) {
+		this.type = type;
+		final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+		MethodHandle ctor = null;
+		try {
+			ctor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR_TYPE);
+		}
+		catch (NoSuchMethodException | IllegalAccessException ignored) {
+			// not instantiable, see isInstantiable()
+		}
+		this.constructor = ctor;
+
+		final Map<String, Property> table = new HashMap<>();
+		for (Field field : type.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers())) {
+				continue;
+			}
+			final String name = field.getName();
+			try {
+				final MethodHandle setter = lookup.findVirtual(type, "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1),
+						MethodType.methodType(void.class, field.getType())).asType(SETTER_TYPE);
+				table.put(name, new Property(name, field.getType(), setter, field.isAnnotationPresent(JSONEmbedded.class)));
+			}
+			catch (NoSuchMethodException | IllegalAccessException ignored) {
+				// no public setter: member is not bound
+			}
+		}
+		this.properties = Map.copyOf(table);
+	}
+
+	private static boolean isBindable(final Class<?> componentType) {
+		return !componentType.isPrimitive() && !componentType.isArray() && componentType != Object.class
+				&& componentType != String.class && !Number.class.isAssignableFrom(componentType)
+				&& componentType != Boolean.class && !Map.class.isAssignableFrom(componentType)
+				&& !List.class.isAssignableFrom(componentType);
+	}
+
+	Class<?> type() {
+		return type;
+	}
+
+	boolean isInstantiable() {
+		return constructor != null;
+	}
+
+	Property property(final String name) {
+		return properties.get(name);
+	}
+
+	Map<String, Property> properties() {
+		return properties;
+	}
+
+	Object newInstance() throws JSON.JSONParseException {
+		if (constructor == null) {
+			throw new JSON.JSONParseException("Empty constructor not found for " + type.getName());
+		}
+		try {
+			return (Object) constructor.invokeExact();
+		}
+		catch (Throwable t) {
+			throw new JSON.JSONParseException("Unable to instantiate " + type.getName(), t);
+		}
+	}
+
+	void set(final Object target, final Property property, Object value) throws JSON.JSONParseException {
+		if ((property.type == int.class || property.type == Integer.class) && value instanceof Long) {
+			// JSON integers are parsed as longs, narrowed as the generated binders do
+			value = JSONBinders.asInteger(value);
+		}
+		try {
+			property.setter.invokeExact(target, value);
+		}
+		catch (Throwable t) {
+			throw new JSON.JSONParseException("Unable to bind " + type.getSimpleName() + "." + property.name + " with value of type "
+					+ (value == null ? "null" : value.getClass().getSimpleName()), t);
+		}
+	}
+
+	/**
+	 * Binds a parsed JSON object (see {@link JSON#parseJSON(String)}) to a new instance.
+	 */
+	@SuppressWarnings("unchecked")
+	Object bind(final Map<Object, Object> parsed) throws JSON.JSONParseException {
+		final Object ret = newInstance();
+
+		for (Map.Entry<Object, Object> e : parsed.entrySet()) {
+			final Property property = properties.get(String.valueOf(e.getKey()));
+			if (property == null) {
+				continue;
+			}
+
+			Object value = e.getValue();
+			if (property.embedded) {
+				value = JSONBinders.asEmbedded(value, JSONBinders.get(property.type));
+			}
+			else if (property.bindObject) {
+				value = JSONBinders.asObject(value, JSONBinders.get(property.type));
+			}
+			else if (property.componentType != null && value instanceof List<?> elements) {
+				final JSONBinder<?> elementBinder = property.bindElements ? JSONBinders.get(property.componentType) : null;
+				final Object array = Array.newInstance(property.componentType, elements.size());
+				int i = 0;
+				for (Object o : elements) {
+					if (elementBinder != null && o instanceof Map) {
+						o = elementBinder.bind((Map<Object, Object>) o);
+					}
+					setElement(array, i++, o);
+				}
+				value = array;
+			}
+
+			set(ret, property, value);
+		}
+
+		return ret;
+	}
+
+	/**
+	 * Binds the next JSON object of the reader to a new instance. Members that are not bound are skipped
+	 * without being decoded.
+	 */
+	Object bind(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		final Object ret = newInstance();
+
+		reader.beginObject();
+		while (reader.hasNext()) {
+			final Property property = properties.get(reader.nextName());
+			if (property == null) {
+				reader.skipValue();
+				continue;
+			}
+
+			final Object value;
+			if (property.embedded) {
+				value = JSONBinders.readEmbedded(reader, JSONBinders.get(property.type));
+			}
+			else if (property.bindObject) {
+				value = JSONBinders.readObject(reader, JSONBinders.get(property.type));
+			}
+			else if (property.componentType != null && reader.peek() == JSONReader.Token.BEGIN_ARRAY) {
+				final JSONBinder<?> elementBinder = property.bindElements ? JSONBinders.get(property.componentType) : null;
+				final List<Object> elements = new ArrayList<>();
+				reader.beginArray();
+				while (reader.hasNext()) {
+					if (elementBinder != null && reader.peek() == JSONReader.Token.BEGIN_OBJECT) {
+						elements.add(elementBinder.bind(reader));
+					}
+					else {
+						elements.add(reader.readValue());
+					}
+				}
+				reader.endArray();
+
+				final Object array = Array.newInstance(property.componentType, elements.size());
+				for (int i = 0; i < elements.size(); i++) {
+					setElement(array, i, elements.get(i));
+				}
+				value = array;
+			}
+			else {
+				value = reader.readValue();
+			}
+
+			set(ret, property, value);
+		}
+		reader.endObject();
+
+		return ret;
+	}
+
+	private void setElement(final Object array, final int index, final Object element) throws JSON.JSONParseException {
+		try {
+			if (array instanceof Object[] objects) {
+				objects[index] = element;
+			}
+			else {
+				Array.set(array, index, element);
+			}
+		}
+		catch (RuntimeException re) {
+			throw new JSON.JSONParseException("Unable to bind array element of type "
+					+ (element == null ? "null" : element.getClass().getSimpleName()) + " into " + array.getClass().getSimpleName(), re);
+		}
+	}
+}
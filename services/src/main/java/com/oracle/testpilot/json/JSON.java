@@ -0,0 +1,133 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * JSON codec: binds JSON objects, or arrays of objects when created with an array class (for example
+ * <code>new JSON&lt;&gt;(Commit[].class)</code>), to instances of the given class. Serialization is done using
+ * a {@link JSONWriter}.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.0
+ */
+public class JSON<T> {
+	// binder of the class or, for array classes, of the array component type
+	private final JSONBinder<?> binder;
+	private final Class<?> componentType;
+	private final JSONProjection projection;
+
+	public JSON(Class<T> clazz) {
+		this(clazz, JSONProjection.of(clazz.isArray() ? clazz.componentType() : clazz));
+	}
+
+	/**
+	 * Creates a binder parsing only the members selected by the given projection, the others being skipped
+	 * without being decoded.
+	 */
+	public JSON(Class<T> clazz, JSONProjection projection) {
+		this.componentType = clazz.componentType();
+		final Class<?> boundClass = componentType != null ? componentType : clazz;
+		this.binder = JSONBinders.get(boundClass);
+		this.projection = projection;
+		if (!JSONBinders.isGenerated(boundClass) && !BindingPlan.of(boundClass).isInstantiable()) {
+			throw new RuntimeException("Empty constructor not found!");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public T parse(final String json) {
+		try {
+			final Object parsed = parseJSON(json, projection);
+
+			if (componentType != null) {
+				return (T) JSONBinders.asArray(parsed, (Class<Object>) componentType, (JSONBinder<Object>) binder);
+			}
+			return (T) binder.bind((Map<Object, Object>) parsed);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Binds the JSON value read from the given stream (for example an HTTP response body) without first
+	 * copying it into a String.
+	 */
+	@SuppressWarnings("unchecked")
+	public T parse(final InputStream json) {
+		try (JSONReader reader = new JSONReader(json, projection)) {
+			if (componentType != null) {
+				return (T) JSONBinders.readArray(reader, (Class<Object>) componentType, (JSONBinder<Object>) binder);
+			}
+			return (T) binder.bind(reader);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Binds the JSON value held by the given UTF-8 bytes (for example an HTTP response body received using
+	 * <code>HttpResponse.BodyHandlers.ofByteArray()</code>). Only the bound values are decoded.
+	 */
+	@SuppressWarnings("unchecked")
+	public T parse(final byte[] json) {
+		try (JSONReader reader = new JSONReader(json, 0, json.length, projection)) {
+			if (componentType != null) {
+				return (T) JSONBinders.readArray(reader, (Class<Object>) componentType, (JSONBinder<Object>) binder);
+			}
+			return (T) binder.bind(reader);
+		}
+		catch (Exception e) {
+			return null;
+		}
+	}
+
+	public static class JSONParseException extends Exception {
+		public JSONParseException(String cause) {
+			super(cause);
+		}
+
+		public JSONParseException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	public static Object parseJSONFile(String file) throws JSONParseException, IOException {
+		return parseJSON(Paths.get(file));
+	}
+
+	public static Object parseJSON(String text) throws JSONParseException {
+		return new JSONParser(text).parse();
+	}
+
+	/**
+	 * Parses the given text keeping only the members selected by the projection.
+	 */
+	public static Object parseJSON(String text, JSONProjection projection) throws JSONParseException {
+		return new JSONParser(text, projection).parse();
+	}
+
+	public static Object parseJSON(CharSequence text) throws JSONParseException {
+		return new JSONParser(text).parse();
+	}
+
+	public static Object parseJSON(char[] text) throws JSONParseException {
+		return new JSONParser(text).parse();
+	}
+
+	public static Object parseJSON(Path file) throws JSONParseException, IOException {
+		return parseJSON(Files.readString(file));
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which a dedicated {@link JSONBinder} is generated at compile time by the
+ * <code>testpilot-processor</code> annotation processor. The generated binder is named after the class
+ * (<code>DatabaseJSONBinder</code> for <code>Database</code>) and calls the setters directly, without any
+ * reflection.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JSONBindable {
+}
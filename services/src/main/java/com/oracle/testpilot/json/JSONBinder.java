@@ -0,0 +1,44 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Binds JSON objects to instances of a given class.
+ * <p>
+ * Implementations are either generated at compile time for classes annotated with {@link JSONBindable}
+ * (and registered as services) or, as a fallback, based on reflection. Use {@link JSONBinders#get(Class)}
+ * to obtain the binder of a class.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public interface JSONBinder<T> {
+	/**
+	 * Returns the class this binder creates instances of.
+	 */
+	Class<T> type();
+
+	/**
+	 * Binds the next JSON object of the reader to a new instance.
+	 */
+	T bind(JSONReader reader) throws IOException, JSON.JSONParseException;
+
+	/**
+	 * Binds an already parsed JSON object (see {@link JSON#parseJSON(String)}) to a new instance.
+	 */
+	T bind(Map<Object, Object> parsed) throws JSON.JSONParseException;
+
+	/**
+	 * Returns the members this binder needs, so that parsers can skip the others without decoding them.
+	 */
+	default JSONProjection projection() {
+		return JSONProjection.derive(type());
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of {@link JSONBinder}s and helpers used by the generated binders.
+ * <p>
+ * Generated binders are discovered once using the {@link ServiceLoader} (the annotation processor writes the
+ * corresponding <code>META-INF/services</code> entry); classes without a generated binder fall back to
+ * reflection.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class JSONBinders {
+
+	private static final Map<Class<?>, JSONBinder<?>> GENERATED = new HashMap<>();
+
+	static {
+		for (JSONBinder<?> binder : ServiceLoader.load(JSONBinder.class, JSONBinder.class.getClassLoader())) {
+			GENERATED.put(binder.type(), binder);
+		}
+	}
+
+	private static final ClassValue<JSONBinder<?>> BINDERS = new ClassValue<>() {
+		@Override
+		protected JSONBinder<?> computeValue(final Class<?> type) {
+			final JSONBinder<?> generated = GENERATED.get(type);
+			return generated != null ? generated : new ReflectiveBinder<>(type);
+		}
+	};
+
+	private JSONBinders() {
+	}
+
+	/**
+	 * Returns the binder of the given class: the generated one if any, a reflective one otherwise.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JSONBinder<T> get(final Class<T> type) {
+		return (JSONBinder<T>) BINDERS.get(type);
+	}
+
+	/**
+	 * Returns true if a binder has been generated at compile time for the given class.
+	 */
+	public static boolean isGenerated(final Class<?> type) {
+		return GENERATED.containsKey(type);
+	}
+
+	// ---------------------------------------------------------------------------------------------------------------------
+	// Helpers used by generated binders: reading from a JSONReader
+
+	public static String readString(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		if (reader.peek() == JSONReader.Token.NULL) {
+			reader.nextNull();
+			return null;
+		}
+		if (reader.peek() != JSONReader.Token.STRING) {
+			throw new JSON.JSONParseException("Expected STRING but found: " + reader.peek());
+		}
+		return reader.nextString();
+	}
+
+	public static Long readLong(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		return asLong(reader.readValue());
+	}
+
+	public static Integer readInteger(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		return asInteger(reader.readValue());
+	}
+
+	public static Double readDouble(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		return asDouble(reader.readValue());
+	}
+
+	public static Boolean readBoolean(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		return asBoolean(reader.readValue());
+	}
+
+	/**
+	 * Reads a nested object bound using the given binder.
+	 */
+	public static <E> E readObject(final JSONReader reader, final JSONBinder<E> binder) throws IOException, JSON.JSONParseException {
+		if (reader.peek() == JSONReader.Token.NULL) {
+			reader.nextNull();
+			return null;
+		}
+		return binder.bind(reader);
+	}
+
+	/**
+	 * Reads an array whose elements are bound using the given binder (or read as plain values if null).
+	 */
+	public static <E> E[] readArray(final JSONReader reader, final Class<E> componentType, final JSONBinder<E> binder) throws IOException, JSON.JSONParseException {
+		if (reader.peek() == JSONReader.Token.NULL) {
+			reader.nextNull();
+			return null;
+		}
+
+		final List<E> elements = new ArrayList<>();
+		reader.beginArray();
+		while (reader.hasNext()) {
+			if (binder != null && reader.peek() == JSONReader.Token.BEGIN_OBJECT) {
+				elements.add(binder.bind(reader));
+			}
+			else {
+				elements.add(cast(reader.readValue(), componentType));
+			}
+		}
+		reader.endArray();
+
+		return elements.toArray(newArray(componentType, elements.size()));
+	}
+
+	/**
+	 * Reads a string member holding an embedded JSON document, bound using the given binder while the
+	 * string is being unescaped.
+	 */
+	public static <E> E readEmbedded(final JSONReader reader, final JSONBinder<E> binder) throws IOException, JSON.JSONParseException {
+		if (reader.peek() == JSONReader.Token.NULL) {
+			reader.nextNull();
+			return null;
+		}
+		try (JSONReader embedded = reader.nextEmbedded(binder.projection())) {
+			return binder.bind(embedded);
+		}
+	}
+
+	// ---------------------------------------------------------------------------------------------------------------------
+	// Helpers used by generated binders: converting already parsed values
+
+	public static String asString(final Object value) throws JSON.JSONParseException {
+		return cast(value, String.class);
+	}
+
+	public static Long asLong(final Object value) throws JSON.JSONParseException {
+		return cast(value, Long.class);
+	}
+
+	public static Integer asInteger(final Object value) throws JSON.JSONParseException {
+		final Long l = asLong(value);
+		try {
+			return l == null ? null : Math.toIntExact(l);
+		}
+		catch (ArithmeticException ae) {
+			throw new JSON.JSONParseException("Value out of int range: " + l, ae);
+		}
+	}
+
+	public static Double asDouble(final Object value) throws JSON.JSONParseException {
+		if (value instanceof Long l) {
+			return l.doubleValue();
+		}
+		return cast(value, Double.class);
+	}
+
+	public static Boolean asBoolean(final Object value) throws JSON.JSONParseException {
+		return cast(value, Boolean.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> E asObject(final Object value, final JSONBinder<E> binder) throws JSON.JSONParseException {
+		if (value == null) {
+			return null;
+		}
+		if (!(value instanceof Map)) {
+			throw new JSON.JSONParseException("Expected object but found: " + value.getClass().getSimpleName());
+		}
+		return binder.bind((Map<Object, Object>) value);
+	}
+
+	/**
+	 * Binds an embedded JSON document: either already decoded by the parser (see {@link JSONSubscriber}) or
+	 * still held by its string.
+	 */
+	public static <E> E asEmbedded(final Object value, final JSONBinder<E> binder) throws JSON.JSONParseException {
+		if (value instanceof String document) {
+			return asObject(new JSONParser(document, binder.projection()).parse(), binder);
+		}
+		return asObject(value, binder);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <E> E[] asArray(final Object value, final Class<E> componentType, final JSONBinder<E> binder) throws JSON.JSONParseException {
+		if (value == null) {
+			return null;
+		}
+		if (!(value instanceof List<?> elements)) {
+			throw new JSON.JSONParseException("Expected array but found: " + value.getClass().getSimpleName());
+		}
+
+		final E[] array = newArray(componentType, elements.size());
+		int i = 0;
+		for (Object o : elements) {
+			if (binder != null && o instanceof Map) {
+				array[i++] = binder.bind((Map<Object, Object>) o);
+			}
+			else {
+				array[i++] = cast(o, componentType);
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Checks the value given to a setter taking a primitive type: JSON null cannot be bound to it, as with
+	 * the reflective binder.
+	 */
+	public static <E> E nonNull(final E value, final String member) throws JSON.JSONParseException {
+		if (value == null) {
+			throw new JSON.JSONParseException("Unable to bind " + member + " with value of type null");
+		}
+		return value;
+	}
+
+	public static <E> E cast(final Object value, final Class<E> type) throws JSON.JSONParseException {
+		if (value == null || type.isInstance(value)) {
+			return type.cast(value);
+		}
+		throw new JSON.JSONParseException("Expected " + type.getSimpleName() + " but found: " + value.getClass().getSimpleName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> E[] newArray(final Class<E> componentType, final int length) {
+		return (E[]) Array.newInstance(componentType, length);
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field whose JSON value is a string holding another JSON document, for example
+ * <code>{"database":"{\"host\":\"...\"}"}</code>. The embedded object is bound to the field type while the
+ * enclosing document is parsed: its content is unescaped on the fly and fed to the parser, without
+ * materializing the string first.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface JSONEmbedded {
+}
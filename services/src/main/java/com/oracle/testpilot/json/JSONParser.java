@@ -0,0 +1,438 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single pass, non-recursive JSON tokenizer working over a character buffer.
+ * <p>
+ * Produces the same tree as before: {@link Map} for objects, {@link List} for arrays, {@link String},
+ * {@link Long} or {@link Double} for numbers, {@link Boolean} and <code>null</code>. Nesting is handled using
+ * an explicit stack so deeply nested documents cannot overflow the thread stack.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class JSONParser {
+	private final char[] buffer;
+	private final int end;
+	private int pos;
+
+	private final JSONProjection projection;
+
+	// explicit stack of open containers (Map or List), their projection and, for objects, the pending key
+	private Object[] containers = new Object[16];
+	private JSONProjection[] projections = new JSONProjection[16];
+	private String[] keys = new String[16];
+	private int depth;
+
+	// projection of the value about to be parsed
+	private JSONProjection valueProjection;
+
+	private StringBuilder sb;
+
+	JSONParser(final CharSequence text) {
+		this(text, JSONProjection.ALL);
+	}
+
+	JSONParser(final CharSequence text, final JSONProjection projection) {
+		this(text instanceof String s ? s.toCharArray() : text.toString().toCharArray(), 0, text.length(), projection);
+	}
+
+	JSONParser(final char[] buffer) {
+		this(buffer, 0, buffer.length, JSONProjection.ALL);
+	}
+
+	JSONParser(final char[] buffer, final int offset, final int length, final JSONProjection projection) {
+		this.buffer = buffer;
+		this.pos = offset;
+		this.end = offset + length;
+		this.projection = projection;
+	}
+
+	Object parse() throws JSON.JSONParseException {
+		Object value;
+		valueProjection = projection;
+
+		parseValue:
+		while (true) {
+			skipWhitespace();
+			if (pos >= end) {
+				throw new JSON.JSONParseException("No JSON value found. Found: <EOF>");
+			}
+
+			switch (buffer[pos]) {
+				case '{': {
+					pos++;
+					final Map<Object, Object> map = new HashMap<>();
+					push(map);
+					if (nextMember(true)) {
+						continue parseValue;
+					}
+					value = pop();
+					break;
+				}
+
+				case '[': {
+					pos++;
+					final List<Object> list = new ArrayList<>();
+					skipWhitespace();
+					if (pos < end && buffer[pos] == ']') {
+						pos++;
+						value = list;
+						break;
+					}
+					push(list);
+					continue parseValue;
+				}
+
+				case '"':
+				case '\'':
+					value = readString();
+					break;
+
+				case 't':
+					expectLiteral("true");
+					value = Boolean.TRUE;
+					break;
+
+				case 'f':
+					expectLiteral("false");
+					value = Boolean.FALSE;
+					break;
+
+				case 'n':
+					expectLiteral("null");
+					value = null;
+					break;
+
+				default:
+					value = readNumber();
+			}
+
+			// a value is complete, attach it to its parent container(s)
+			while (true) {
+				if (depth == 0) {
+					return value;
+				}
+
+				final Object container = containers[depth - 1];
+				skipWhitespace();
+				final char c = pos < end ? buffer[pos] : 0;
+
+				if (container instanceof Map) {
+					@SuppressWarnings("unchecked") final Map<Object, Object> map = (Map<Object, Object>) container;
+					map.put(keys[depth - 1], value);
+					if (c == ',') {
+						pos++;
+						if (nextMember(false)) {
+							continue parseValue;
+						}
+					}
+					else if (c == '}') {
+						pos++;
+					}
+					else {
+						fail("}");
+					}
+				}
+				else {
+					@SuppressWarnings("unchecked") final List<Object> list = (List<Object>) container;
+					list.add(value);
+					if (c == ',') {
+						pos++;
+						// arrays are transparent regarding projections
+						valueProjection = projections[depth - 1];
+						continue parseValue;
+					}
+					if (c != ']') {
+						fail(", or ]");
+					}
+					pos++;
+				}
+
+				// the current container is closed, propagate it as the completed value
+				value = pop();
+			}
+		}
+	}
+
+	private void push(final Object container) {
+		if (depth == containers.length) {
+			final int newLength = depth << 1;
+			final Object[] newContainers = new Object[newLength];
+			final JSONProjection[] newProjections = new JSONProjection[newLength];
+			final String[] newKeys = new String[newLength];
+			System.arraycopy(containers, 0, newContainers, 0, depth);
+			System.arraycopy(projections, 0, newProjections, 0, depth);
+			System.arraycopy(keys, 0, newKeys, 0, depth);
+			containers = newContainers;
+			projections = newProjections;
+			keys = newKeys;
+		}
+		containers[depth] = container;
+		projections[depth] = valueProjection;
+		keys[depth] = null;
+		depth++;
+	}
+
+	private Object pop() {
+		final Object container = containers[--depth];
+		containers[depth] = null;
+		projections[depth] = null;
+		keys[depth] = null;
+		return container;
+	}
+
+	/**
+	 * Reads the next member of the current object (after its opening brace or a comma), skipping the members
+	 * outside the projection. Returns false once the closing brace has been consumed.
+	 */
+	private boolean nextMember(boolean first) throws JSON.JSONParseException {
+		final JSONProjection objectProjection = projections[depth - 1];
+		while (true) {
+			skipWhitespace();
+			if (first && pos < end && buffer[pos] == '}') {
+				pos++;
+				return false;
+			}
+
+			final String key = readKey();
+			final JSONProjection memberProjection = objectProjection.member(key);
+			if (memberProjection != null) {
+				keys[depth - 1] = key;
+				valueProjection = memberProjection;
+				return true;
+			}
+
+			skipValue();
+			skipWhitespace();
+			if (pos < end && buffer[pos] == ',') {
+				pos++;
+				first = false;
+				continue;
+			}
+			if (pos < end && buffer[pos] == '}') {
+				pos++;
+				return false;
+			}
+			fail("}");
+		}
+	}
+
+	/**
+	 * Skips the next value without creating any object: strings are scanned for their closing quote and
+	 * nested objects or arrays by counting brackets.
+	 */
+	private void skipValue() throws JSON.JSONParseException {
+		skipWhitespace();
+		int nested = 0;
+		while (pos < end) {
+			final char c = buffer[pos];
+			switch (c) {
+				case '"', '\'' -> skipString();
+				case '{', '[' -> {
+					nested++;
+					pos++;
+				}
+				case '}', ']' -> {
+					if (nested == 0) {
+						// end of the enclosing container: the skipped value was a scalar
+						return;
+					}
+					nested--;
+					pos++;
+				}
+				case ',', ' ', '\n', '\r', '\t' -> {
+					if (nested == 0) {
+						return;
+					}
+					pos++;
+				}
+				default -> pos++;
+			}
+			if (nested == 0 && (c == '"' || c == '\'' || c == '}' || c == ']')) {
+				return;
+			}
+		}
+		if (nested > 0) {
+			throw new JSON.JSONParseException("Expected } or ] but found: <EOF>");
+		}
+	}
+
+	private void skipString() throws JSON.JSONParseException {
+		final char quote = buffer[pos++];
+		while (pos < end) {
+			final char c = buffer[pos++];
+			if (c == quote) {
+				return;
+			}
+			if (c == '\\') {
+				pos++;
+			}
+		}
+		throw new JSON.JSONParseException("Expected quote but found: <EOF>");
+	}
+
+	private String readKey() throws JSON.JSONParseException {
+		skipWhitespace();
+		if (pos >= end || (buffer[pos] != '"' && buffer[pos] != '\'')) {
+			fail("quote");
+		}
+		final String key = readString();
+		skipWhitespace();
+		if (pos >= end || buffer[pos] != ':') {
+			fail(":");
+		}
+		pos++;
+		return key;
+	}
+
+	private String readString() throws JSON.JSONParseException {
+		final char quote = buffer[pos++];
+		final int start = pos;
+
+		// fast path: no escape sequence, the string is copied once from the buffer
+		while (pos < end) {
+			final char c = buffer[pos];
+			if (c == quote) {
+				return new String(buffer, start, pos++ - start);
+			}
+			if (c == '\\') {
+				break;
+			}
+			pos++;
+		}
+
+		if (sb == null) {
+			sb = new StringBuilder(Math.max(16, (pos - start) << 1));
+		}
+		else {
+			sb.setLength(0);
+		}
+		sb.append(buffer, start, pos - start);
+
+		while (pos < end) {
+			final char c = buffer[pos++];
+			if (c == quote) {
+				return sb.toString();
+			}
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+			if (pos >= end) {
+				break;
+			}
+			final char escaped = buffer[pos++];
+			switch (escaped) {
+				case '"', '\\', '/', '\'' -> sb.append(escaped);
+				case 'b' -> sb.append('\b');
+				case 'f' -> sb.append('\f');
+				case 'n' -> sb.append('\n');
+				case 'r' -> sb.append('\r');
+				case 't' -> sb.append('\t');
+				case 'u' -> {
+					if (pos + 4 > end) {
+						fail("4 hexadecimal digits");
+					}
+					int code = 0;
+					for (int i = 0; i < 4; i++) {
+						final int digit = Character.digit(buffer[pos++], 16);
+						if (digit < 0) {
+							pos--;
+							fail("hexadecimal digit");
+						}
+						code = (code << 4) | digit;
+					}
+					sb.append((char) code);
+				}
+				default -> {
+					pos--;
+					fail("escape sequence");
+				}
+			}
+		}
+
+		throw new JSON.JSONParseException("Expected quote but found: <EOF>");
+	}
+
+	private Object readNumber() throws JSON.JSONParseException {
+		final int start = pos;
+		boolean decimal = false;
+
+		while (pos < end) {
+			final char c = buffer[pos];
+			if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+				pos++;
+			}
+			else if (c == '.' || c == 'e' || c == 'E') {
+				decimal = true;
+				pos++;
+			}
+			else {
+				break;
+			}
+		}
+
+		if (start == pos) {
+			throw new JSON.JSONParseException("No JSON value found. Found: " + excerpt());
+		}
+
+		final String number = new String(buffer, start, pos - start);
+		try {
+			if (!decimal) {
+				try {
+					return Long.valueOf(number);
+				}
+				catch (NumberFormatException overflow) {
+					// larger than a long, fallback to a double
+				}
+			}
+			return Double.valueOf(number);
+		}
+		catch (NumberFormatException nfe) {
+			pos = start;
+			throw new JSON.JSONParseException("No JSON value found. Found: " + excerpt());
+		}
+	}
+
+	private void expectLiteral(final String literal) throws JSON.JSONParseException {
+		final int length = literal.length();
+		if (pos + length > end) {
+			fail(literal);
+		}
+		for (int i = 0; i < length; i++) {
+			if (buffer[pos + i] != literal.charAt(i)) {
+				fail(literal);
+			}
+		}
+		pos += length;
+	}
+
+	private void skipWhitespace() {
+		while (pos < end) {
+			final char c = buffer[pos];
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return;
+			}
+			pos++;
+		}
+	}
+
+	private void fail(final String expected) throws JSON.JSONParseException {
+		throw new JSON.JSONParseException("Expected " + expected + " but found:" + excerpt());
+	}
+
+	private String excerpt() {
+		return pos >= end ? "<EOF>" : new String(buffer, pos, Math.min(5, end - pos));
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Describes which members of a JSON document are needed. Members outside of the projection are skip-scanned
+ * by the parsers (quote and bracket counting only) without creating any String, Map or List.
+ * <p>
+ * Arrays are transparent: the projection of an array applies to each of its elements. A projection is either
+ * derived from a target class ({@link #of(Class)}: its bound members, recursively) or given explicitly as
+ * dot separated paths ({@link #of(String...)}, for example <code>"files.filename"</code>). A member holding an
+ * embedded JSON document (see {@link JSONEmbedded}) carries the projection of that document.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class JSONProjection {
+
+	/**
+	 * Keeps everything.
+	 */
+	public static final JSONProjection ALL = new JSONProjection(null, null, null);
+
+	private static final ClassValue<JSONProjection> CLASS_PROJECTIONS = new ClassValue<>() {
+		@Override
+		protected JSONProjection computeValue(final Class<?> type) {
+			return new JSONProjection(null, type, null);
+		}
+	};
+
+	// selected members (null with type == null means everything)
+	private final Map<String, JSONProjection> members;
+	// class derived projection, members resolved lazily from its binder (allows recursive types)
+	private final Class<?> type;
+	private volatile JSONProjection resolved;
+	// for a string member holding an embedded JSON document: the projection of that document
+	private final JSONProjection document;
+
+	private JSONProjection(final Map<String, JSONProjection> members, final Class<?> type, final JSONProjection document) {
+		this.members = members;
+		this.type = type;
+		this.document = document;
+	}
+
+	/**
+	 * Returns the projection made of the members bound by the given class binder.
+	 */
+	public static JSONProjection of(final Class<?> type) {
+		return CLASS_PROJECTIONS.get(type);
+	}
+
+	/**
+	 * Returns the projection made of the given dot separated member paths. The last member of each path is
+	 * kept entirely.
+	 */
+	public static JSONProjection of(final String... paths) {
+		final JSONProjection root = new JSONProjection(new HashMap<>(), null, null);
+		for (String path : paths) {
+			JSONProjection current = root;
+			final String[] names = path.split("\\.");
+			for (int i = 0; i < names.length; i++) {
+				JSONProjection child = current.members.get(names[i]);
+				if (child == ALL) {
+					// already fully selected
+					break;
+				}
+				if (i == names.length - 1) {
+					current.members.put(names[i], ALL);
+					break;
+				}
+				if (child == null) {
+					child = new JSONProjection(new HashMap<>(), null, null);
+					current.members.put(names[i], child);
+				}
+				current = child;
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * Returns the projection made of the given members, each one with its own projection.
+	 */
+	public static JSONProjection members(final Map<String, JSONProjection> members) {
+		return new JSONProjection(Map.copyOf(members), null, null);
+	}
+
+	/**
+	 * Returns the projection of a string member holding an embedded JSON document, itself parsed using the
+	 * given projection.
+	 */
+	public static JSONProjection embedded(final JSONProjection document) {
+		return new JSONProjection(null, null, document);
+	}
+
+	/**
+	 * Returns the projection of the embedded JSON document held by this member, or null if the member does
+	 * not hold an embedded document.
+	 */
+	public JSONProjection embeddedDocument() {
+		return document;
+	}
+
+	/**
+	 * Returns true if the whole value is needed.
+	 */
+	public boolean isAll() {
+		return this == ALL;
+	}
+
+	/**
+	 * Returns the projection of the given member, or null if the member is not needed.
+	 */
+	public JSONProjection member(final String name) {
+		if (this == ALL) {
+			return ALL;
+		}
+		if (document != null) {
+			return document.member(name);
+		}
+		if (type != null) {
+			JSONProjection r = resolved;
+			if (r == null) {
+				resolved = r = JSONBinders.get(type).projection();
+			}
+			return r.member(name);
+		}
+		return members.get(name);
+	}
+
+	/**
+	 * Derives the projection of a class using its reflective binding plan.
+	 */
+	static JSONProjection derive(final Class<?> type) {
+		final Map<String, JSONProjection> members = new HashMap<>();
+		for (BindingPlan.Property property : BindingPlan.of(type).properties().values()) {
+			if (property.embedded) {
+				members.put(property.name, embedded(of(property.type)));
+			}
+			else if (property.bindElements) {
+				members.put(property.name, of(property.componentType));
+			}
+			else if (property.bindObject) {
+				members.put(property.name, of(property.type));
+			}
+			else {
+				members.put(property.name, ALL);
+			}
+		}
+		return new JSONProjection(Map.copyOf(members), null, null);
+	}
+}
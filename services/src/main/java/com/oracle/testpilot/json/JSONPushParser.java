@@ -0,0 +1,517 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incremental (push-style) JSON parser: bytes are fed chunk by chunk as they arrive from the network and
+ * the parser state is kept between chunks, so no thread ever blocks waiting for the rest of the document.
+ * <p>
+ * Builds the same tree as {@link JSONParser}. Objects found in the array held by a given top level member
+ * can be handed over to an element handler as soon as their closing brace has been read. Members outside of
+ * the {@link JSONProjection} are scanned through dedicated skip states without being decoded. Strings holding
+ * an embedded JSON document (see {@link JSONEmbedded}) are unescaped into a nested parser as they arrive,
+ * the resulting tree replacing the string.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class JSONPushParser {
+	// parser states
+	private static final int VALUE = 0;
+	private static final int OBJECT_START = 1;
+	private static final int ARRAY_START = 2;
+	private static final int KEY = 3;
+	private static final int COLON = 4;
+	private static final int AFTER_VALUE = 5;
+	private static final int STRING = 6;
+	private static final int STRING_ESCAPE = 7;
+	private static final int STRING_UNICODE = 8;
+	private static final int NUMBER = 9;
+	private static final int LITERAL = 10;
+	private static final int DONE = 11;
+	private static final int SKIP = 12;
+	private static final int SKIP_NESTED = 13;
+	private static final int SKIP_STRING = 14;
+	private static final int SKIP_STRING_ESCAPE = 15;
+	private static final int SKIP_SCALAR = 16;
+
+	private int state = VALUE;
+
+	private Object[] containers = new Object[16];
+	private JSONProjection[] projections = new JSONProjection[16];
+	private String[] keys = new String[16];
+	private int depth;
+
+	// projection of the value about to be parsed, null if it must be skipped
+	private JSONProjection valueProjection;
+	private int skipDepth;
+
+	// current string or number being accumulated (raw UTF-8 bytes)
+	private byte[] scratch = new byte[256];
+	private final StringTable strings = new StringTable();
+	// parser of the embedded JSON document held by the current string, if any
+	private JSONPushParser embedded;
+	private int length;
+	private boolean readingKey;
+	private int unicodeDigits;
+	private int unicode;
+	private int highSurrogate = -1;
+	private boolean decimal;
+
+	// current literal (true, false or null) being matched
+	private String literal;
+	private int literalIndex;
+
+	private Object root;
+
+	private String elementMember;
+	private ElementHandler elementHandler;
+
+	interface ElementHandler {
+		Object apply(Map<Object, Object> element) throws JSON.JSONParseException;
+	}
+
+	JSONPushParser() {
+		this(JSONProjection.ALL);
+	}
+
+	JSONPushParser(final JSONProjection projection) {
+		this.valueProjection = projection;
+	}
+
+	/**
+	 * Registers a handler receiving each object of the array held by the given top level member as soon as
+	 * it is complete. The value returned by the handler replaces the object inside the resulting tree.
+	 */
+	void setElementHandler(final String member, final ElementHandler handler) {
+		this.elementMember = member;
+		this.elementHandler = handler;
+	}
+
+	void feed(final ByteBuffer chunk) throws JSON.JSONParseException {
+		while (chunk.hasRemaining()) {
+			final byte c = chunk.get();
+
+			switch (state) {
+				case STRING:
+					if (c == '"') {
+						endString();
+					}
+					else if (c == '\\') {
+						state = STRING_ESCAPE;
+					}
+					else {
+						flushHighSurrogate();
+						append(c);
+					}
+					break;
+
+				case STRING_ESCAPE:
+					state = STRING;
+					if (c == 'u') {
+						state = STRING_UNICODE;
+						unicodeDigits = 0;
+						unicode = 0;
+						break;
+					}
+					flushHighSurrogate();
+					switch (c) {
+						case '"', '\\', '/' -> append(c);
+						case 'b' -> append((byte) '\b');
+						case 'f' -> append((byte) '\f');
+						case 'n' -> append((byte) '\n');
+						case 'r' -> append((byte) '\r');
+						case 't' -> append((byte) '\t');
+						default -> fail("escape sequence", c);
+					}
+					break;
+
+				case STRING_UNICODE: {
+					final int digit = Character.digit(c, 16);
+					if (digit < 0) {
+						fail("hexadecimal digit", c);
+					}
+					unicode = (unicode << 4) | digit;
+					if (++unicodeDigits == 4) {
+						state = STRING;
+						appendUnicode(unicode);
+					}
+					break;
+				}
+
+				case NUMBER:
+					if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+						append(c);
+					}
+					else if (c == '.' || c == 'e' || c == 'E') {
+						decimal = true;
+						append(c);
+					}
+					else {
+						endNumber();
+						// the current byte belongs to what follows the number
+						chunk.position(chunk.position() - 1);
+					}
+					break;
+
+				case LITERAL:
+					if (c != literal.charAt(literalIndex++)) {
+						fail(literal, c);
+					}
+					if (literalIndex == literal.length()) {
+						complete(switch (literal) {
+							case "true" -> Boolean.TRUE;
+							case "false" -> Boolean.FALSE;
+							default -> null;
+						});
+					}
+					break;
+
+				case SKIP_NESTED:
+					switch (c) {
+						case '"' -> state = SKIP_STRING;
+						case '{', '[' -> skipDepth++;
+						case '}', ']' -> {
+							if (--skipDepth == 0) {
+								state = AFTER_VALUE;
+							}
+						}
+						default -> {
+						}
+					}
+					break;
+
+				case SKIP_STRING:
+					if (c == '"') {
+						state = skipDepth == 0 ? AFTER_VALUE : SKIP_NESTED;
+					}
+					else if (c == '\\') {
+						state = SKIP_STRING_ESCAPE;
+					}
+					break;
+
+				case SKIP_STRING_ESCAPE:
+					state = SKIP_STRING;
+					break;
+
+				case SKIP_SCALAR:
+					if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+						state = AFTER_VALUE;
+						// the current byte belongs to what follows the skipped value
+						chunk.position(chunk.position() - 1);
+					}
+					break;
+
+				default:
+					if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+						break;
+					}
+					structural(c);
+			}
+		}
+	}
+
+	/**
+	 * Signals the end of the input and returns the parsed tree.
+	 */
+	Object finish() throws JSON.JSONParseException {
+		if (state == NUMBER && depth == 0) {
+			endNumber();
+		}
+		if (state != DONE) {
+			throw new JSON.JSONParseException("Expected value but found: <EOF>");
+		}
+		return root;
+	}
+
+	private void structural(final byte c) throws JSON.JSONParseException {
+		switch (state) {
+			case OBJECT_START:
+				if (c == '}') {
+					closeContainer();
+					return;
+				}
+				startKey(c);
+				return;
+
+			case KEY:
+				startKey(c);
+				return;
+
+			case COLON:
+				if (c != ':') {
+					fail(":", c);
+				}
+				state = valueProjection == null ? SKIP : VALUE;
+				return;
+
+			case SKIP:
+				skipDepth = 0;
+				state = switch (c) {
+					case '{', '[' -> {
+						skipDepth = 1;
+						yield SKIP_NESTED;
+					}
+					case '"' -> SKIP_STRING;
+					default -> SKIP_SCALAR;
+				};
+				return;
+
+			case ARRAY_START:
+				if (c == ']') {
+					closeContainer();
+					return;
+				}
+				startValue(c);
+				return;
+
+			case VALUE:
+				startValue(c);
+				return;
+
+			case AFTER_VALUE: {
+				final boolean inObject = containers[depth - 1] instanceof Map;
+				if (c == ',') {
+					state = inObject ? KEY : VALUE;
+					if (!inObject) {
+						// arrays are transparent regarding projections
+						valueProjection = projections[depth - 1];
+					}
+				}
+				else if (c == (inObject ? '}' : ']')) {
+					closeContainer();
+				}
+				else {
+					fail(inObject ? "}" : ", or ]", c);
+				}
+				return;
+			}
+
+			default:
+				// trailing content after the top level value is ignored
+		}
+	}
+
+	private void startValue(final byte c) throws JSON.JSONParseException {
+		switch (c) {
+			case '{' -> {
+				push(new HashMap<>());
+				state = OBJECT_START;
+			}
+			case '[' -> {
+				push(new ArrayList<>());
+				state = ARRAY_START;
+			}
+			case '"' -> startString(false);
+			case 't' -> startLiteral("true");
+			case 'f' -> startLiteral("false");
+			case 'n' -> startLiteral("null");
+			default -> {
+				if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+					length = 0;
+					decimal = false;
+					append(c);
+					state = NUMBER;
+				}
+				else {
+					fail("value", c);
+				}
+			}
+		}
+	}
+
+	private void startKey(final byte c) throws JSON.JSONParseException {
+		if (c != '"') {
+			fail("quote", c);
+		}
+		startString(true);
+	}
+
+	private void startString(final boolean key) {
+		readingKey = key;
+		if (!key && valueProjection != null && valueProjection.embeddedDocument() != null) {
+			embedded = new JSONPushParser(valueProjection.embeddedDocument());
+		}
+		length = 0;
+		highSurrogate = -1;
+		state = STRING;
+	}
+
+	private void endString() throws JSON.JSONParseException {
+		flushHighSurrogate();
+		if (embedded != null) {
+			embedded.feed(ByteBuffer.wrap(scratch, 0, length));
+			final Object document = embedded.finish();
+			embedded = null;
+			complete(document);
+			return;
+		}
+		final String value = strings.get(scratch, 0, length);
+		if (readingKey) {
+			keys[depth - 1] = value;
+			valueProjection = projections[depth - 1].member(value);
+			state = COLON;
+		}
+		else {
+			complete(value);
+		}
+	}
+
+	private void endNumber() throws JSON.JSONParseException {
+		final String number = new String(scratch, 0, length, StandardCharsets.US_ASCII);
+		Number value = null;
+		try {
+			if (!decimal) {
+				try {
+					value = Long.valueOf(number);
+				}
+				catch (NumberFormatException overflow) {
+					// larger than a long, fallback to a double
+				}
+			}
+			if (value == null) {
+				value = Double.valueOf(number);
+			}
+		}
+		catch (NumberFormatException nfe) {
+			throw new JSON.JSONParseException("No JSON value found. Found: " + number);
+		}
+		complete(value);
+	}
+
+	private void startLiteral(final String expected) {
+		literal = expected;
+		literalIndex = 1;
+		state = LITERAL;
+	}
+
+	private void push(final Object container) {
+		if (depth == containers.length) {
+			final int newLength = depth << 1;
+			final Object[] newContainers = new Object[newLength];
+			final JSONProjection[] newProjections = new JSONProjection[newLength];
+			final String[] newKeys = new String[newLength];
+			System.arraycopy(containers, 0, newContainers, 0, depth);
+			System.arraycopy(projections, 0, newProjections, 0, depth);
+			System.arraycopy(keys, 0, newKeys, 0, depth);
+			containers = newContainers;
+			projections = newProjections;
+			keys = newKeys;
+		}
+		projections[depth] = valueProjection;
+		containers[depth++] = container;
+	}
+
+	private void closeContainer() throws JSON.JSONParseException {
+		final Object container = containers[--depth];
+		containers[depth] = null;
+		projections[depth] = null;
+		keys[depth] = null;
+		complete(container);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void complete(Object value) throws JSON.JSONParseException {
+		if (depth == 0) {
+			root = value;
+			state = DONE;
+			return;
+		}
+
+		final Object parent = containers[depth - 1];
+		if (parent instanceof Map) {
+			((Map<Object, Object>) parent).put(keys[depth - 1], value);
+		}
+		else {
+			if (elementHandler != null && depth == 2 && value instanceof Map && containers[0] instanceof Map
+					&& elementMember.equals(keys[0])) {
+				try {
+					value = elementHandler.apply((Map<Object, Object>) value);
+				}
+				catch (RuntimeException re) {
+					throw new JSON.JSONParseException("Unable to bind " + elementMember + " element: " + re.getMessage());
+				}
+			}
+			((List<Object>) parent).add(value);
+		}
+		state = AFTER_VALUE;
+	}
+
+	private void appendUnicode(final int code) throws JSON.JSONParseException {
+		if (highSurrogate != -1) {
+			if (Character.isLowSurrogate((char) code)) {
+				appendCodePoint(Character.toCodePoint((char) highSurrogate, (char) code));
+				highSurrogate = -1;
+				return;
+			}
+			flushHighSurrogate();
+		}
+		if (Character.isHighSurrogate((char) code)) {
+			highSurrogate = code;
+		}
+		else {
+			appendCodePoint(code);
+		}
+	}
+
+	private void flushHighSurrogate() throws JSON.JSONParseException {
+		if (highSurrogate != -1) {
+			// lone surrogate: not representable in UTF-8
+			append((byte) '?');
+			highSurrogate = -1;
+		}
+	}
+
+	private void appendCodePoint(final int codePoint) throws JSON.JSONParseException {
+		if (codePoint < 0x80) {
+			append((byte) codePoint);
+		}
+		else if (codePoint < 0x800) {
+			append((byte) (0xC0 | (codePoint >> 6)));
+			append((byte) (0x80 | (codePoint & 0x3F)));
+		}
+		else if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) {
+			append((byte) '?');
+		}
+		else if (codePoint < 0x10000) {
+			append((byte) (0xE0 | (codePoint >> 12)));
+			append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+			append((byte) (0x80 | (codePoint & 0x3F)));
+		}
+		else {
+			append((byte) (0xF0 | (codePoint >> 18)));
+			append((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+			append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+			append((byte) (0x80 | (codePoint & 0x3F)));
+		}
+	}
+
+	private void append(final byte c) throws JSON.JSONParseException {
+		if (length == scratch.length && embedded != null) {
+			// the string content is handed over by chunks, never materialized entirely
+			embedded.feed(ByteBuffer.wrap(scratch, 0, length));
+			length = 0;
+		}
+		if (length == scratch.length) {
+			final byte[] newScratch = new byte[length << 1];
+			System.arraycopy(scratch, 0, newScratch, 0, length);
+			scratch = newScratch;
+		}
+		scratch[length++] = c;
+	}
+
+	private void fail(final String expected, final byte found) throws JSON.JSONParseException {
+		throw new JSON.JSONParseException("Expected " + expected + " but found:" + (char) (found & 0xFF));
+	}
+}
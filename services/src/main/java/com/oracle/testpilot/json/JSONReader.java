@@ -0,0 +1,891 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pull-style JSON reader working directly over an {@link InputStream} (typically an HTTP response body).
+ * <p>
+ * Tokens are read on demand from a fixed size byte buffer so that the whole document never needs to be
+ * materialized: values that are not requested (see {@link #skipValue()}) are scanned without being decoded.
+ * When a {@link JSONProjection} is given, object members outside of it are skipped the same way before
+ * being reported.
+ * <p>
+ * A reader can also work directly over a <code>byte[]</code> (for example obtained using
+ * <code>HttpResponse.BodyHandlers.ofByteArray()</code>), without any copy. Member names and short string
+ * values are decoded once per reader (see {@link StringTable}) so that keys repeated in every element of a
+ * large array do not allocate a new String each time.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class JSONReader implements Closeable {
+
+	public enum Token {
+		BEGIN_OBJECT,
+		END_OBJECT,
+		BEGIN_ARRAY,
+		END_ARRAY,
+		NAME,
+		STRING,
+		NUMBER,
+		BOOLEAN,
+		NULL,
+		END_DOCUMENT
+	}
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int EMBEDDED_BUFFER_SIZE = 512;
+
+	// lexical scopes
+	private static final int EMPTY_DOCUMENT = 0;
+	private static final int NONEMPTY_DOCUMENT = 1;
+	private static final int EMPTY_ARRAY = 2;
+	private static final int NONEMPTY_ARRAY = 3;
+	private static final int EMPTY_OBJECT = 4;
+	private static final int DANGLING_NAME = 5;
+	private static final int NONEMPTY_OBJECT = 6;
+
+	// null when reading from a byte array
+	private final InputStream in;
+	private final byte[] buffer;
+	private int pos;
+	private int limit;
+
+	private int[] stack = new int[32];
+	private int stackSize = 1;
+
+	// projection of each open scope, aligned with the scope stack
+	private final JSONProjection projection;
+	private JSONProjection[] projections = new JSONProjection[32];
+	// member name already read while filtering members, and the projection of its value
+	private String peekedName;
+	private JSONProjection memberProjection = JSONProjection.ALL;
+
+	// next token, already identified but not yet consumed (null if none)
+	private Token peeked;
+	private boolean booleanValue;
+	private String numberValue;
+
+	// value of the last token consumed by nextToken()
+	private String text;
+
+	private byte[] scratch = new byte[256];
+	private final StringTable strings = new StringTable();
+
+	public JSONReader(final InputStream in) {
+		this(in, JSONProjection.ALL);
+	}
+
+	/**
+	 * Creates a reader reporting only the object members selected by the given projection.
+	 */
+	public JSONReader(final InputStream in, final JSONProjection projection) {
+		this(in, projection, BUFFER_SIZE);
+	}
+
+	private JSONReader(final InputStream in, final JSONProjection projection, final int bufferSize) {
+		this.in = in;
+		this.buffer = new byte[bufferSize];
+		this.projection = projection;
+		stack[0] = EMPTY_DOCUMENT;
+		projections[0] = projection;
+	}
+
+	public JSONReader(final byte[] json) {
+		this(json, 0, json.length, JSONProjection.ALL);
+	}
+
+	/**
+	 * Creates a reader over the given bytes, reporting only the object members selected by the projection.
+	 * The array is read in place and never modified.
+	 */
+	public JSONReader(final byte[] json, final int offset, final int length, final JSONProjection projection) {
+		this.in = null;
+		this.buffer = json;
+		this.pos = offset;
+		this.limit = offset + length;
+		this.projection = projection;
+		stack[0] = EMPTY_DOCUMENT;
+		projections[0] = projection;
+	}
+
+	/**
+	 * Returns the type of the next token without consuming it.
+	 */
+	public Token peek() throws IOException, JSON.JSONParseException {
+		if (peeked == null) {
+			peeked = doPeek();
+		}
+		return peeked;
+	}
+
+	/**
+	 * Consumes the next token whatever its type and returns it. For {@link Token#NAME}, {@link Token#STRING},
+	 * {@link Token#NUMBER} and {@link Token#BOOLEAN} tokens, the textual value is then available using
+	 * {@link #getText()}.
+	 */
+	public Token nextToken() throws IOException, JSON.JSONParseException {
+		final Token token = peek();
+		text = null;
+		switch (token) {
+			case BEGIN_OBJECT -> beginObject();
+			case END_OBJECT -> endObject();
+			case BEGIN_ARRAY -> beginArray();
+			case END_ARRAY -> endArray();
+			case NAME -> text = nextName();
+			case STRING -> text = nextString();
+			case NUMBER -> text = nextString();
+			case BOOLEAN -> text = String.valueOf(nextBoolean());
+			case NULL -> nextNull();
+			case END_DOCUMENT -> {
+			}
+		}
+		return token;
+	}
+
+	/**
+	 * Returns the textual value of the last token consumed by {@link #nextToken()}.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	public void beginObject() throws IOException, JSON.JSONParseException {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT, valueProjection());
+		peeked = null;
+	}
+
+	public void endObject() throws IOException, JSON.JSONParseException {
+		expect(Token.END_OBJECT);
+		stackSize--;
+		peeked = null;
+	}
+
+	public void beginArray() throws IOException, JSON.JSONParseException {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY, valueProjection());
+		peeked = null;
+	}
+
+	public void endArray() throws IOException, JSON.JSONParseException {
+		expect(Token.END_ARRAY);
+		stackSize--;
+		peeked = null;
+	}
+
+	/**
+	 * Returns true if the current array or object has another element.
+	 */
+	public boolean hasNext() throws IOException, JSON.JSONParseException {
+		final Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+
+	public String nextName() throws IOException, JSON.JSONParseException {
+		expect(Token.NAME);
+		peeked = null;
+		if (peekedName != null) {
+			final String name = peekedName;
+			peekedName = null;
+			return name;
+		}
+		return readString();
+	}
+
+	/**
+	 * Returns the next string value. Numbers are returned using their textual representation.
+	 */
+	public String nextString() throws IOException, JSON.JSONParseException {
+		final Token token = peek();
+		if (token == Token.NUMBER) {
+			peeked = null;
+			return numberValue;
+		}
+		expect(Token.STRING);
+		peeked = null;
+		return readString();
+	}
+
+	/**
+	 * Returns the next number as a {@link Long} or, if it has a fractional part, an exponent or does not fit
+	 * into a long, as a {@link Double}.
+	 */
+	public Number nextNumber() throws IOException, JSON.JSONParseException {
+		expect(Token.NUMBER);
+		peeked = null;
+		try {
+			if (numberValue.indexOf('.') < 0 && numberValue.indexOf('e') < 0 && numberValue.indexOf('E') < 0) {
+				try {
+					return Long.valueOf(numberValue);
+				}
+				catch (NumberFormatException overflow) {
+					// larger than a long, fallback to a double
+				}
+			}
+			return Double.valueOf(numberValue);
+		}
+		catch (NumberFormatException nfe) {
+			throw new JSON.JSONParseException("No JSON value found. Found: " + numberValue);
+		}
+	}
+
+	public boolean nextBoolean() throws IOException, JSON.JSONParseException {
+		expect(Token.BOOLEAN);
+		peeked = null;
+		return booleanValue;
+	}
+
+	public void nextNull() throws IOException, JSON.JSONParseException {
+		expect(Token.NULL);
+		peeked = null;
+	}
+
+	/**
+	 * Reads the next value as a tree made of {@link Map}, {@link List}, {@link String}, {@link Long},
+	 * {@link Double}, {@link Boolean} and <code>null</code>, as {@link JSON#parseJSON(String)} does.
+	 */
+	public Object readValue() throws IOException, JSON.JSONParseException {
+		switch (peek()) {
+			case BEGIN_OBJECT: {
+				final Map<Object, Object> map = new HashMap<>();
+				beginObject();
+				while (hasNext()) {
+					final String key = nextName();
+					map.put(key, readValue());
+				}
+				endObject();
+				return map;
+			}
+
+			case BEGIN_ARRAY: {
+				final List<Object> list = new ArrayList<>();
+				beginArray();
+				while (hasNext()) {
+					list.add(readValue());
+				}
+				endArray();
+				return list;
+			}
+
+			case STRING:
+				return nextString();
+
+			case NUMBER:
+				return nextNumber();
+
+			case BOOLEAN:
+				return nextBoolean();
+
+			case NULL:
+				nextNull();
+				return null;
+
+			default:
+				throw new JSON.JSONParseException("Expected value but found: " + peeked);
+		}
+	}
+
+	/**
+	 * Skips the next value (or the next member name). Nested objects and arrays are skipped entirely by
+	 * counting brackets and string values are scanned for their closing quote without being decoded.
+	 */
+	public void skipValue() throws IOException, JSON.JSONParseException {
+		switch (peek()) {
+			case BEGIN_OBJECT, BEGIN_ARRAY -> {
+				peeked = null;
+				skipNested();
+			}
+			case NAME -> {
+				peeked = null;
+				if (peekedName != null) {
+					peekedName = null;
+				}
+				else {
+					skipString();
+				}
+			}
+			case STRING -> {
+				peeked = null;
+				skipString();
+			}
+			case END_OBJECT, END_ARRAY, END_DOCUMENT -> throw new JSON.JSONParseException("Expected value but found: " + peeked);
+			default -> peeked = null;
+		}
+	}
+
+	/**
+	 * Returns a reader over the JSON document held by the next string value. The string content is
+	 * unescaped on the fly while the returned reader consumes it; closing the returned reader skips what
+	 * remains of the string so that this reader can go on with the next value.
+	 */
+	public JSONReader nextEmbedded(final JSONProjection documentProjection) throws IOException, JSON.JSONParseException {
+		expect(Token.STRING);
+		peeked = null;
+		return new JSONReader(new EmbeddedInputStream(), documentProjection, EMBEDDED_BUFFER_SIZE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (in != null) {
+			in.close();
+		}
+	}
+
+	private Token doPeek() throws IOException, JSON.JSONParseException {
+		final int scope = stack[stackSize - 1];
+		int c;
+
+		switch (scope) {
+			case EMPTY_ARRAY:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				c = nextNonWhitespace(true);
+				if (c == ']') {
+					return Token.END_ARRAY;
+				}
+				pos--;
+				break;
+
+			case NONEMPTY_ARRAY:
+				c = nextNonWhitespace(true);
+				if (c == ']') {
+					return Token.END_ARRAY;
+				}
+				if (c != ',') {
+					fail(", or ]");
+				}
+				break;
+
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT: {
+				final JSONProjection objectProjection = projections[stackSize - 1];
+				boolean first = scope == EMPTY_OBJECT;
+				while (true) {
+					c = nextNonWhitespace(true);
+					if (c == '}') {
+						return Token.END_OBJECT;
+					}
+					if (!first) {
+						if (c != ',') {
+							fail("}");
+						}
+						c = nextNonWhitespace(true);
+					}
+					if (c != '"') {
+						pos--;
+						fail("quote");
+					}
+					stack[stackSize - 1] = DANGLING_NAME;
+					if (objectProjection.isAll()) {
+						memberProjection = JSONProjection.ALL;
+						return Token.NAME;
+					}
+
+					// filtered object: the name is needed now to decide whether the member is reported
+					final String name = readString();
+					memberProjection = objectProjection.member(name);
+					if (memberProjection != null) {
+						peekedName = name;
+						return Token.NAME;
+					}
+					c = nextNonWhitespace(true);
+					if (c != ':') {
+						pos--;
+						fail(":");
+					}
+					skipRawValue();
+					stack[stackSize - 1] = NONEMPTY_OBJECT;
+					first = false;
+				}
+			}
+
+			case DANGLING_NAME:
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				c = nextNonWhitespace(true);
+				if (c != ':') {
+					pos--;
+					fail(":");
+				}
+				break;
+
+			case EMPTY_DOCUMENT:
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				break;
+
+			default:
+				// trailing content after the top level value is ignored
+				return Token.END_DOCUMENT;
+		}
+
+		c = nextNonWhitespace(true);
+		switch (c) {
+			case '{':
+				return Token.BEGIN_OBJECT;
+
+			case '[':
+				return Token.BEGIN_ARRAY;
+
+			case '"':
+				return Token.STRING;
+
+			case 't':
+				expectLiteral("rue");
+				booleanValue = true;
+				return Token.BOOLEAN;
+
+			case 'f':
+				expectLiteral("alse");
+				booleanValue = false;
+				return Token.BOOLEAN;
+
+			case 'n':
+				expectLiteral("ull");
+				return Token.NULL;
+
+			default:
+				pos--;
+				numberValue = readNumber();
+				return Token.NUMBER;
+		}
+	}
+
+	private void expect(final Token token) throws IOException, JSON.JSONParseException {
+		if (peek() != token) {
+			throw new JSON.JSONParseException("Expected " + token + " but found: " + peeked);
+		}
+	}
+
+	private void push(final int scope, final JSONProjection scopeProjection) {
+		if (stackSize == stack.length) {
+			final int[] newStack = new int[stackSize << 1];
+			final JSONProjection[] newProjections = new JSONProjection[stackSize << 1];
+			System.arraycopy(stack, 0, newStack, 0, stackSize);
+			System.arraycopy(projections, 0, newProjections, 0, stackSize);
+			stack = newStack;
+			projections = newProjections;
+		}
+		projections[stackSize] = scopeProjection;
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * Returns the projection of the value about to be read: the one of the last member name inside an
+	 * object, the one of the array itself for array elements (arrays are transparent).
+	 */
+	private JSONProjection valueProjection() {
+		return switch (stack[stackSize - 1]) {
+			case NONEMPTY_OBJECT -> memberProjection;
+			case NONEMPTY_DOCUMENT -> projection;
+			default -> projections[stackSize - 1];
+		};
+	}
+
+	/**
+	 * Skips the next value, whatever its type, without decoding it.
+	 */
+	private void skipRawValue() throws IOException, JSON.JSONParseException {
+		final int c = nextNonWhitespace(true);
+		switch (c) {
+			case '{', '[' -> skipNested();
+			case '"' -> skipString();
+			default -> {
+				// number or literal: scan up to the next delimiter
+				while (pos < limit || fill(1)) {
+					final byte b = buffer[pos];
+					if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+						return;
+					}
+					pos++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Ensures at least <code>minimum</code> bytes are available from <code>pos</code>.
+	 */
+	private boolean fill(final int minimum) throws IOException {
+		if (limit - pos >= minimum) {
+			return true;
+		}
+		if (in == null) {
+			// byte array: everything is already there
+			return false;
+		}
+		if (pos > 0) {
+			limit -= pos;
+			System.arraycopy(buffer, pos, buffer, 0, limit);
+			pos = 0;
+		}
+		while (limit < minimum) {
+			final int read = in.read(buffer, limit, buffer.length - limit);
+			if (read == -1) {
+				return false;
+			}
+			limit += read;
+		}
+		return true;
+	}
+
+	private int nextNonWhitespace(final boolean throwOnEOF) throws IOException, JSON.JSONParseException {
+		while (pos < limit || fill(1)) {
+			final int c = buffer[pos++];
+			if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+				return c;
+			}
+		}
+		if (throwOnEOF) {
+			throw new JSON.JSONParseException("Expected value but found: <EOF>");
+		}
+		return -1;
+	}
+
+	private void expectLiteral(final String rest) throws IOException, JSON.JSONParseException {
+		if (!fill(rest.length())) {
+			fail(rest);
+		}
+		for (int i = 0; i < rest.length(); i++) {
+			if (buffer[pos + i] != rest.charAt(i)) {
+				fail(rest);
+			}
+		}
+		pos += rest.length();
+	}
+
+	private String readNumber() throws IOException, JSON.JSONParseException {
+		int length = 0;
+		while (pos < limit || fill(1)) {
+			final byte c = buffer[pos];
+			if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+				ensureScratch(length + 1);
+				scratch[length++] = c;
+				pos++;
+			}
+			else {
+				break;
+			}
+		}
+		if (length == 0) {
+			throw new JSON.JSONParseException("No JSON value found. Found: " + excerpt());
+		}
+		return new String(scratch, 0, length, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Decodes a string whose opening quote has already been consumed.
+	 */
+	private String readString() throws IOException, JSON.JSONParseException {
+		// fast path: the whole string is available inside the buffer without any escape sequence
+		for (int i = pos; i < limit; i++) {
+			final byte c = buffer[i];
+			if (c == '"') {
+				final String result = strings.get(buffer, pos, i - pos);
+				pos = i + 1;
+				return result;
+			}
+			if (c == '\\') {
+				break;
+			}
+		}
+
+		// slow path: accumulate UTF-8 bytes (escape sequences are re-encoded as UTF-8)
+		int length = 0;
+		while (true) {
+			if (pos == limit && !fill(1)) {
+				throw new JSON.JSONParseException("Expected quote but found: <EOF>");
+			}
+			final byte c = buffer[pos++];
+			if (c == '"') {
+				return strings.get(scratch, 0, length);
+			}
+			if (c != '\\') {
+				ensureScratch(length + 1);
+				scratch[length++] = c;
+				continue;
+			}
+			if (pos == limit && !fill(1)) {
+				throw new JSON.JSONParseException("Expected escape sequence but found: <EOF>");
+			}
+			final byte escaped = buffer[pos++];
+			ensureScratch(length + 4);
+			switch (escaped) {
+				case '"', '\\', '/' -> scratch[length++] = escaped;
+				case 'b' -> scratch[length++] = '\b';
+				case 'f' -> scratch[length++] = '\f';
+				case 'n' -> scratch[length++] = '\n';
+				case 'r' -> scratch[length++] = '\r';
+				case 't' -> scratch[length++] = '\t';
+				case 'u' -> {
+					int codePoint = readHex4();
+					if (Character.isHighSurrogate((char) codePoint) && fill(6) && buffer[pos] == '\\' && buffer[pos + 1] == 'u') {
+						pos += 2;
+						final int low = readHex4();
+						if (Character.isLowSurrogate((char) low)) {
+							codePoint = Character.toCodePoint((char) codePoint, (char) low);
+						}
+						else {
+							length = encodeUTF8(codePoint, length);
+							codePoint = low;
+						}
+					}
+					length = encodeUTF8(codePoint, length);
+				}
+				default -> {
+					pos--;
+					fail("escape sequence");
+				}
+			}
+		}
+	}
+
+	private int readHex4() throws IOException, JSON.JSONParseException {
+		if (!fill(4)) {
+			fail("4 hexadecimal digits");
+		}
+		int code = 0;
+		for (int i = 0; i < 4; i++) {
+			final int digit = Character.digit(buffer[pos], 16);
+			if (digit < 0) {
+				fail("hexadecimal digit");
+			}
+			pos++;
+			code = (code << 4) | digit;
+		}
+		return code;
+	}
+
+	private int encodeUTF8(final int codePoint, final int length) {
+		ensureScratch(length + 4);
+		return encodeUTF8(codePoint, scratch, length);
+	}
+
+	private static int encodeUTF8(final int codePoint, final byte[] scratch, int length) {
+		if (codePoint < 0x80) {
+			scratch[length++] = (byte) codePoint;
+		}
+		else if (codePoint < 0x800) {
+			scratch[length++] = (byte) (0xC0 | (codePoint >> 6));
+			scratch[length++] = (byte) (0x80 | (codePoint & 0x3F));
+		}
+		else if (Character.isSurrogate((char) codePoint) && codePoint < 0x10000) {
+			// lone surrogate: not representable in UTF-8
+			scratch[length++] = '?';
+		}
+		else if (codePoint < 0x10000) {
+			scratch[length++] = (byte) (0xE0 | (codePoint >> 12));
+			scratch[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+			scratch[length++] = (byte) (0x80 | (codePoint & 0x3F));
+		}
+		else {
+			scratch[length++] = (byte) (0xF0 | (codePoint >> 18));
+			scratch[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+			scratch[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+			scratch[length++] = (byte) (0x80 | (codePoint & 0x3F));
+		}
+		return length;
+	}
+
+	/**
+	 * Skips a string whose opening quote has already been consumed, without decoding it.
+	 */
+	private void skipString() throws IOException, JSON.JSONParseException {
+		while (pos < limit || fill(1)) {
+			final byte c = buffer[pos++];
+			if (c == '"') {
+				return;
+			}
+			if (c == '\\') {
+				if (pos == limit && !fill(1)) {
+					break;
+				}
+				pos++;
+			}
+		}
+		throw new JSON.JSONParseException("Expected quote but found: <EOF>");
+	}
+
+	/**
+	 * Skips an object or an array whose opening bracket has already been consumed.
+	 */
+	private void skipNested() throws IOException, JSON.JSONParseException {
+		int depth = 1;
+		while (pos < limit || fill(1)) {
+			final byte c = buffer[pos++];
+			switch (c) {
+				case '"' -> skipString();
+				case '{', '[' -> depth++;
+				case '}', ']' -> {
+					if (--depth == 0) {
+						return;
+					}
+				}
+				default -> {
+				}
+			}
+		}
+		throw new JSON.JSONParseException("Expected } or ] but found: <EOF>");
+	}
+
+	/**
+	 * Content of the current string value, unescaped: escape sequences are decoded into UTF-8 bytes and the
+	 * closing quote ends the stream.
+	 */
+	private final class EmbeddedInputStream extends InputStream {
+		private final byte[] pending = new byte[8];
+		private int pendingPos;
+		private int pendingLength;
+		private boolean done;
+
+		@Override
+		public int read() throws IOException {
+			if (pendingPos < pendingLength) {
+				return pending[pendingPos++] & 0xFF;
+			}
+			if (done) {
+				return -1;
+			}
+			if (pos == limit && !fill(1)) {
+				throw new IOException("Expected quote but found: <EOF>");
+			}
+
+			final byte c = buffer[pos++];
+			if (c == '"') {
+				done = true;
+				return -1;
+			}
+			if (c != '\\') {
+				return c & 0xFF;
+			}
+
+			if (pos == limit && !fill(1)) {
+				throw new IOException("Expected escape sequence but found: <EOF>");
+			}
+			final byte escaped = buffer[pos++];
+			switch (escaped) {
+				case '"', '\\', '/' -> {
+					return escaped;
+				}
+				case 'b' -> {
+					return '\b';
+				}
+				case 'f' -> {
+					return '\f';
+				}
+				case 'n' -> {
+					return '\n';
+				}
+				case 'r' -> {
+					return '\r';
+				}
+				case 't' -> {
+					return '\t';
+				}
+				case 'u' -> {
+					try {
+						int codePoint = readHex4();
+						pendingPos = 0;
+						pendingLength = 0;
+						if (Character.isHighSurrogate((char) codePoint) && fill(6) && buffer[pos] == '\\' && buffer[pos + 1] == 'u') {
+							pos += 2;
+							final int low = readHex4();
+							if (Character.isLowSurrogate((char) low)) {
+								codePoint = Character.toCodePoint((char) codePoint, (char) low);
+							}
+							else {
+								pendingLength = encodeUTF8(codePoint, pending, pendingLength);
+								codePoint = low;
+							}
+						}
+						pendingLength = encodeUTF8(codePoint, pending, pendingLength);
+						return pending[pendingPos++] & 0xFF;
+					}
+					catch (JSON.JSONParseException jpe) {
+						throw new IOException(jpe.getMessage(), jpe);
+					}
+				}
+				default -> throw new IOException("Expected escape sequence but found:" + (char) escaped);
+			}
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			if (len == 0) {
+				return 0;
+			}
+			int n = 0;
+			while (n < len) {
+				if (pendingPos == pendingLength && !done) {
+					if (pos == limit) {
+						if (n > 0) {
+							// do not block once some bytes are available
+							break;
+						}
+						if (!fill(1)) {
+							throw new IOException("Expected quote but found: <EOF>");
+						}
+					}
+					// fast path: copy the bytes up to the next quote or escape sequence
+					final int start = pos;
+					final int end = Math.min(limit, pos + len - n);
+					while (pos < end && buffer[pos] != '"' && buffer[pos] != '\\') {
+						pos++;
+					}
+					if (pos > start) {
+						System.arraycopy(buffer, start, b, off + n, pos - start);
+						n += pos - start;
+						continue;
+					}
+				}
+				final int c = read();
+				if (c == -1) {
+					break;
+				}
+				b[off + n++] = (byte) c;
+			}
+			return n == 0 ? -1 : n;
+		}
+
+		/**
+		 * Skips what remains of the string.
+		 */
+		@Override
+		public void close() throws IOException {
+			while (read() != -1) {
+				pendingPos = pendingLength;
+			}
+		}
+	}
+
+	private void ensureScratch(final int capacity) {
+		if (capacity > scratch.length) {
+			final byte[] newScratch = new byte[Math.max(capacity, scratch.length << 1)];
+			System.arraycopy(scratch, 0, newScratch, 0, scratch.length);
+			scratch = newScratch;
+		}
+	}
+
+	private void fail(final String expected) throws IOException, JSON.JSONParseException {
+		throw new JSON.JSONParseException("Expected " + expected + " but found:" + excerpt());
+	}
+
+	private String excerpt() throws IOException {
+		if (!fill(1)) {
+			return "<EOF>";
+		}
+		fill(5);
+		return new String(buffer, pos, Math.min(5, limit - pos), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking JSON body subscriber: response chunks are parsed as soon as the HTTP client delivers them
+ * and the resulting object is bound once the document is complete.
+ * <p>
+ * Usage: <code>HttpResponse.BodySubscribers.fromSubscriber(new JSONSubscriber&lt;&gt;(Database.class), JSONSubscriber::getResult)</code>
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class JSONSubscriber<T> implements Flow.Subscriber<List<ByteBuffer>> {
+	private final JSONBinder<T> binder;
+	private final JSONPushParser parser;
+
+	private volatile T result;
+	private volatile Throwable failure;
+
+	public JSONSubscriber(final Class<T> clazz) {
+		this(clazz, JSONProjection.of(clazz));
+	}
+
+	/**
+	 * Creates a subscriber parsing only the members selected by the given projection.
+	 */
+	public JSONSubscriber(final Class<T> clazz, final JSONProjection projection) {
+		this.binder = JSONBinders.get(clazz);
+		this.parser = new JSONPushParser(projection);
+		if (!JSONBinders.isGenerated(clazz) && !BindingPlan.of(clazz).isInstantiable()) {
+			throw new RuntimeException("Empty constructor not found!");
+		}
+	}
+
+	/**
+	 * Binds each object of the array held by the given top level member as soon as its closing brace arrives
+	 * and passes it to the consumer, before the rest of the document has been received.
+	 */
+	public <E> JSONSubscriber<T> onArrayElement(final String member, final Class<E> elementClass, final Consumer<? super E> consumer) {
+		final JSONBinder<E> elementBinder = JSONBinders.get(elementClass);
+		if (!JSONBinders.isGenerated(elementClass) && !BindingPlan.of(elementClass).isInstantiable()) {
+			throw new RuntimeException("Empty constructor not found!");
+		}
+
+		parser.setElementHandler(member, map -> {
+			final E element = elementBinder.bind(map);
+			consumer.accept(element);
+			return element;
+		});
+		return this;
+	}
+
+	@Override
+	public void onSubscribe(final Flow.Subscription subscription) {
+		subscription.request(Long.MAX_VALUE);
+	}
+
+	@Override
+	public void onNext(final List<ByteBuffer> items) {
+		if (failure != null) {
+			// keep draining the body so that the exchange completes
+			return;
+		}
+		try {
+			for (ByteBuffer item : items) {
+				parser.feed(item);
+			}
+		}
+		catch (JSON.JSONParseException | RuntimeException e) {
+			failure = e;
+		}
+	}
+
+	@Override
+	public void onError(final Throwable throwable) {
+		failure = throwable;
+	}
+
+	@Override
+	public void onComplete() {
+		if (failure != null) {
+			return;
+		}
+		try {
+			result = binder.bind(asObject(parser.finish()));
+		}
+		catch (Exception e) {
+			failure = e;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Object> asObject(final Object document) throws JSON.JSONParseException {
+		if (!(document instanceof Map)) {
+			throw new JSON.JSONParseException("Expected object but found: " + (document == null ? "null" : document.getClass().getSimpleName()));
+		}
+		return (Map<Object, Object>) document;
+	}
+
+	/**
+	 * Returns the bound object. As the finisher of the body subscriber, it rethrows the failure raised while the
+	 * body was parsed: the response future then completes exceptionally instead of with a null body.
+	 *
+	 * @throws UncheckedIOException if the body could not be parsed or bound
+	 */
+	public T getResult() {
+		if (failure != null) {
+			throw new UncheckedIOException(failure instanceof IOException ioe ? ioe : new IOException("Invalid JSON body", failure));
+		}
+		return result;
+	}
+
+	public Throwable getFailure() {
+		return failure;
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer encoding UTF-8 directly into a reusable byte buffer, strings being escaped on the
+ * fly. Separators are handled by the writer:
+ * <pre>
+ * writer.beginObject().name("runID").value(runID).name("user").beginArray().value("a").endArray().endObject();
+ * </pre>
+ * The buffer is kept between documents (see {@link #reset()}), so that encoding a request body does not
+ * allocate once the buffer has grown to the needed size.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+public final class JSONWriter {
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	private byte[] buffer;
+	private int length;
+
+	// for each open object or array: true while no element has been written yet
+	private boolean[] empty = new boolean[16];
+	private int depth;
+	// true after a member name, its value must not be preceded by a comma
+	private boolean afterName;
+
+	public JSONWriter() {
+		this(256);
+	}
+
+	public JSONWriter(final int initialCapacity) {
+		this.buffer = new byte[initialCapacity];
+	}
+
+	/**
+	 * Clears the written content, keeping the buffer for the next document.
+	 */
+	public JSONWriter reset() {
+		length = 0;
+		depth = 0;
+		afterName = false;
+		return this;
+	}
+
+	public JSONWriter beginObject() {
+		beforeValue();
+		open();
+		write((byte) '{');
+		return this;
+	}
+
+	public JSONWriter endObject() {
+		close();
+		write((byte) '}');
+		return this;
+	}
+
+	public JSONWriter beginArray() {
+		beforeValue();
+		open();
+		write((byte) '[');
+		return this;
+	}
+
+	public JSONWriter endArray() {
+		close();
+		write((byte) ']');
+		return this;
+	}
+
+	public JSONWriter name(final String name) {
+		if (depth == 0 || afterName) {
+			throw new IllegalStateException("Member name not expected: " + name);
+		}
+		separator();
+		writeString(name);
+		write((byte) ':');
+		afterName = true;
+		return this;
+	}
+
+	public JSONWriter value(final String value) {
+		if (value == null) {
+			return nullValue();
+		}
+		beforeValue();
+		writeString(value);
+		return this;
+	}
+
+	public JSONWriter value(final long value) {
+		beforeValue();
+		if (value == Long.MIN_VALUE) {
+			writeASCII(Long.toString(value));
+			return this;
+		}
+
+		long v = value;
+		if (v < 0) {
+			write((byte) '-');
+			v = -v;
+		}
+		int digits = 1;
+		for (long t = v; t >= 10; t /= 10) {
+			digits++;
+		}
+		ensureCapacity(length + digits);
+		for (int i = length + digits - 1; i >= length; i--) {
+			buffer[i] = (byte) ('0' + (v % 10));
+			v /= 10;
+		}
+		length += digits;
+		return this;
+	}
+
+	public JSONWriter value(final double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			throw new IllegalArgumentException("JSON numbers cannot be NaN or infinite");
+		}
+		beforeValue();
+		writeASCII(Double.toString(value));
+		return this;
+	}
+
+	public JSONWriter value(final boolean value) {
+		beforeValue();
+		writeASCII(value ? "true" : "false");
+		return this;
+	}
+
+	public JSONWriter nullValue() {
+		beforeValue();
+		writeASCII("null");
+		return this;
+	}
+
+	/**
+	 * Returns the number of bytes written so far.
+	 */
+	public int size() {
+		return length;
+	}
+
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buffer, length);
+	}
+
+	public void writeTo(final OutputStream out) throws IOException {
+		out.write(buffer, 0, length);
+	}
+
+	/**
+	 * Returns a request body publisher reading the written bytes directly from the buffer (no copy). The
+	 * writer must therefore not be reset until the request has been sent.
+	 */
+	public HttpRequest.BodyPublisher bodyPublisher() {
+		return HttpRequest.BodyPublishers.ofByteArray(buffer, 0, length);
+	}
+
+	@Override
+	public String toString() {
+		return new String(buffer, 0, length, StandardCharsets.UTF_8);
+	}
+
+	private void open() {
+		if (depth == empty.length) {
+			empty = Arrays.copyOf(empty, depth << 1);
+		}
+		empty[depth++] = true;
+	}
+
+	private void close() {
+		if (depth == 0 || afterName) {
+			throw new IllegalStateException("No object or array to close");
+		}
+		depth--;
+	}
+
+	private void beforeValue() {
+		if (afterName) {
+			afterName = false;
+			return;
+		}
+		if (depth > 0) {
+			separator();
+		}
+		else if (length > 0) {
+			throw new IllegalStateException("Only one top level value can be written");
+		}
+	}
+
+	private void separator() {
+		if (empty[depth - 1]) {
+			empty[depth - 1] = false;
+		}
+		else {
+			write((byte) ',');
+		}
+	}
+
+	private void writeString(final String s) {
+		final int n = s.length();
+		// worst case: every char escaped as a 6 bytes unicode escape sequence
+		ensureCapacity(length + 2 + n * 6);
+		final byte[] b = buffer;
+		int l = length;
+
+		b[l++] = '"';
+		for (int i = 0; i < n; i++) {
+			final char c = s.charAt(i);
+			if (c < 0x80) {
+				if (c >= 0x20 && c != '"' && c != '\\') {
+					b[l++] = (byte) c;
+					continue;
+				}
+				b[l++] = '\\';
+				switch (c) {
+					case '"' -> b[l++] = '"';
+					case '\\' -> b[l++] = '\\';
+					case '\n' -> b[l++] = 'n';
+					case '\r' -> b[l++] = 'r';
+					case '\t' -> b[l++] = 't';
+					case '\b' -> b[l++] = 'b';
+					case '\f' -> b[l++] = 'f';
+					default -> {
+						b[l++] = 'u';
+						b[l++] = '0';
+						b[l++] = '0';
+						b[l++] = HEX[c >> 4];
+						b[l++] = HEX[c & 0xF];
+					}
+				}
+			}
+			else if (c < 0x800) {
+				b[l++] = (byte) (0xC0 | (c >> 6));
+				b[l++] = (byte) (0x80 | (c & 0x3F));
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, s.charAt(++i));
+				b[l++] = (byte) (0xF0 | (codePoint >> 18));
+				b[l++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				b[l++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				b[l++] = (byte) (0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(c)) {
+				// lone surrogate: not representable in UTF-8
+				b[l++] = '?';
+			}
+			else {
+				b[l++] = (byte) (0xE0 | (c >> 12));
+				b[l++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+				b[l++] = (byte) (0x80 | (c & 0x3F));
+			}
+		}
+		b[l++] = '"';
+		length = l;
+	}
+
+	private void writeASCII(final String s) {
+		final int n = s.length();
+		ensureCapacity(length + n);
+		for (int i = 0; i < n; i++) {
+			buffer[length++] = (byte) s.charAt(i);
+		}
+	}
+
+	private void write(final byte c) {
+		ensureCapacity(length + 1);
+		buffer[length++] = c;
+	}
+
+	private void ensureCapacity(final int capacity) {
+		if (capacity > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+		}
+	}
+}
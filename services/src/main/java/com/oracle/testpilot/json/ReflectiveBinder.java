@@ -0,0 +1,41 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Fallback binder for classes without a generated binder, based on their {@link BindingPlan}.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class ReflectiveBinder<T> implements JSONBinder<T> {
+	private final Class<T> type;
+	private final BindingPlan plan;
+
+	ReflectiveBinder(final Class<T> type) {
+		this.type = type;
+		this.plan = BindingPlan.of(type);
+	}
+
+	@Override
+	public Class<T> type() {
+		return type;
+	}
+
+	@Override
+	public T bind(final JSONReader reader) throws IOException, JSON.JSONParseException {
+		return type.cast(plan.bind(reader));
+	}
+
+	@Override
+	public T bind(final Map<Object, Object> parsed) throws JSON.JSONParseException {
+		return type.cast(plan.bind(parsed));
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Small direct-mapped table decoding short UTF-8 byte sequences (object keys and short values such as
+ * <code>"modified"</code>) only once: repeated occurrences return the same {@link String} instance without
+ * any allocation. Longer sequences are always decoded.
+ * <p>
+ * Each parser owns its table, which is therefore not thread safe.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+final class StringTable {
+	static final int MAX_LENGTH = 32;
+	private static final int SIZE = 256;
+
+	private final byte[][] bytes = new byte[SIZE][];
+	private final String[] strings = new String[SIZE];
+
+	String get(final byte[] buffer, final int offset, final int length) {
+		if (length > MAX_LENGTH) {
+			return new String(buffer, offset, length, StandardCharsets.UTF_8);
+		}
+
+		int hash = length;
+		for (int i = offset; i < offset + length; i++) {
+			hash = 31 * hash + buffer[i];
+		}
+		final int index = (hash ^ (hash >>> 16)) & (SIZE - 1);
+
+		final byte[] cached = bytes[index];
+		if (cached != null && Arrays.equals(cached, 0, cached.length, buffer, offset, offset + length)) {
+			return strings[index];
+		}
+
+		// miss: the slot is (re)assigned to the new sequence
+		final String value = new String(buffer, offset, length, StandardCharsets.UTF_8);
+		bytes[index] = Arrays.copyOfRange(buffer, offset, offset + length);
+		strings[index] = value;
+		return value;
+	}
+}
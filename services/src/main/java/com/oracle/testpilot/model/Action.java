@@ -12,6 +12,7 @@ package com.oracle.testpilot.model;
  */
 public enum Action {
 	CREATE("Creating OCI resource..."),
+	AWAIT("Waiting for OCI resource..."),
 	SKIP_TESTING("Analyzing committed files to skip tests eventually..."),
 	DELETE("Deleting OCI resource...");
 
@@ -6,12 +6,18 @@
  */
 package com.oracle.testpilot.model;
 
+import com.oracle.testpilot.json.JSONBindable;
+import com.oracle.testpilot.json.JSONEmbedded;
+
 /**
  * @author LLEFEVRE
  * @since 1.0.0
  */
+@JSONBindable
 public class Database {
-	private String database;
+	// the create endpoint returns the database description as a JSON document inside a string
+	@JSONEmbedded
+	private Database database;
 	private String host;
 	private String service;
 	private String password;
@@ -20,11 +26,11 @@ public class Database {
 	public Database() {
 	}
 
-	public String getDatabase() {
+	public Database getDatabase() {
 		return database;
 	}
 
-	public void setDatabase(String database) {
+	public void setDatabase(Database database) {
 		this.database = database;
 	}
 
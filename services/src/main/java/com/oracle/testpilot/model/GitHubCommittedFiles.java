@@ -6,10 +6,13 @@
  */
 package com.oracle.testpilot.model;
 
+import com.oracle.testpilot.json.JSONBindable;
+
 /**
  * @author LLEFEVRE
  * @since 1.0.0
  */
+@JSONBindable
 public class GitHubCommittedFiles {
 
 	private GitHubFilename[] files;
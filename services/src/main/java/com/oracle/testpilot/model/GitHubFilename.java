@@ -6,13 +6,19 @@
  */
 package com.oracle.testpilot.model;
 
+import com.oracle.testpilot.json.JSONBindable;
+
 /**
  * @author LLEFEVRE
  * @since 1.0.0
  */
+@JSONBindable
 public class GitHubFilename {
 
 	private String filename;
+	// set for renamed files
+	private String previous_filename;
+
 	public GitHubFilename() {
 	}
 
@@ -23,4 +29,12 @@ public class GitHubFilename {
 	public void setFilename(String filename) {
 		this.filename = filename;
 	}
+
+	public String getPrevious_filename() {
+		return previous_filename;
+	}
+
+	public void setPrevious_filename(String previous_filename) {
+		this.previous_filename = previous_filename;
+	}
 }
@@ -6,12 +6,18 @@
  */
 package com.oracle.testpilot.model;
 
+import com.oracle.testpilot.json.JSONBindable;
+
 /**
  * @author LLEFEVRE
  * @since 1.0.0
  */
+@JSONBindable
 public class OAuthToken {
 	private String access_token;
+	// lifetime of the access token in seconds
+	private Long expires_in;
+
 	public OAuthToken() {
 	}
 
@@ -22,4 +28,12 @@ public class OAuthToken {
 	public void setAccess_token(String access_token) {
 		this.access_token = access_token;
 	}
+
+	public Long getExpires_in() {
+		return expires_in;
+	}
+
+	public void setExpires_in(Long expires_in) {
+		this.expires_in = expires_in;
+	}
 }
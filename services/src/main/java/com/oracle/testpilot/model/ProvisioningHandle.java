@@ -0,0 +1,60 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.model;
+
+import com.oracle.testpilot.json.JSONBindable;
+
+/**
+ * Identifies a create request submitted without waiting (<code>--create --no-wait</code>) so that a later
+ * step can wait for the database (<code>--await</code>).
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@JSONBindable
+public class ProvisioningHandle {
+	private String runID;
+	private String type;
+	private String[] user;
+	// status URI returned by the provisioning service when processing the request asynchronously
+	private String location;
+
+	public ProvisioningHandle() {
+	}
+
+	public String getRunID() {
+		return runID;
+	}
+
+	public void setRunID(String runID) {
+		this.runID = runID;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public String[] getUser() {
+		return user;
+	}
+
+	public void setUser(String[] user) {
+		this.user = user;
+	}
+
+	public String getLocation() {
+		return location;
+	}
+
+	public void setLocation(String location) {
+		this.location = location;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.model.Database;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Create requests recorded in, and read back from, the journal.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class CreateJournalTest {
+	@TempDir
+	Path directory;
+
+	private static Database database(final String host, final String service, final String password, final String version) {
+		final Database database = new Database();
+		database.setHost(host);
+		database.setService(service);
+		database.setPassword(password);
+		database.setVersion(version);
+		return database;
+	}
+
+	@Test
+	void done() {
+		final CreateJournal journal = new CreateJournal(directory.toString());
+		journal.submitted("1", "base-database-service-23ai", "u2,u1", "/status/1");
+		assertEquals("/status/1", journal.get("1", "base-database-service-23ai", "u1,u2").location());
+
+		journal.done("1", "base-database-service-23ai", "u1,u2", database("h", "s", "p", null));
+		final CreateJournal.Entry entry = journal.get("1", "base-database-service-23ai", "u2,u1");
+		assertEquals(CreateJournal.State.DONE, entry.state());
+		assertNull(entry.location());
+		assertEquals("h", entry.database().getHost());
+		assertEquals("s", entry.database().getService());
+		assertEquals("p", entry.database().getPassword());
+		assertNull(entry.database().getVersion());
+
+		journal.remove("1", "base-database-service-23ai", "u1,u2");
+		assertNull(journal.get("1", "base-database-service-23ai", "u1,u2"));
+	}
+
+	@Test
+	void incompleteDatabaseIsNotRecorded() throws IOException {
+		final CreateJournal journal = new CreateJournal(directory.toString());
+		journal.submitted("1", "base-database-service-23ai", "u1", "/status/1");
+		journal.done("1", "base-database-service-23ai", "u1", database("h", null, "p", "23"));
+		journal.done("1", "base-database-service-23ai", "u1", database("h", "s", "", "23"));
+
+		// the request is resumed from its status location
+		assertEquals("/status/1", journal.get("1", "base-database-service-23ai", "u1").location());
+		try (Stream<Path> files = Files.list(directory)) {
+			final Path file = files.findFirst().orElseThrow();
+			assertEquals("submitted\n/status/1\n", Files.readString(file, StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void entryWithMissingFieldsIsNotDone() throws IOException {
+		final CreateJournal journal = new CreateJournal(directory.toString());
+		journal.submitted("1", "base-database-service-23ai", "u1", "/status/1");
+		try (Stream<Path> files = Files.list(directory)) {
+			Files.writeString(files.findFirst().orElseThrow(), "done\nh\n\np\n23\n", StandardCharsets.UTF_8);
+		}
+		assertNull(journal.get("1", "base-database-service-23ai", "u1"));
+	}
+
+	@Test
+	void inFlight() throws IOException {
+		final CreateJournal journal = new CreateJournal(directory.toString());
+		journal.inFlight("1", "base-database-service-23ai", "u1");
+		final CreateJournal.Entry entry = journal.get("1", "base-database-service-23ai", "u1");
+		assertEquals(CreateJournal.State.IN_FLIGHT, entry.state());
+		assertEquals(ProcessHandle.current().pid(), entry.pid());
+
+		// the process which sent the request is gone: its response will never be received
+		try (Stream<Path> files = Files.list(directory)) {
+			Files.writeString(files.findFirst().orElseThrow(), "in-flight\n" + Long.MAX_VALUE + "\n-1\n", StandardCharsets.UTF_8);
+		}
+		assertEquals(CreateJournal.State.INTERRUPTED, journal.get("1", "base-database-service-23ai", "u1").state());
+
+		journal.interrupted("1", "base-database-service-23ai", "u1");
+		assertEquals(CreateJournal.State.INTERRUPTED, journal.get("1", "base-database-service-23ai", "u1").state());
+	}
+
+	@Test
+	void disabled() {
+		final CreateJournal journal = new CreateJournal(null);
+		journal.done("1", "base-database-service-23ai", "u1", database("h", "s", "p", "23"));
+		assertNull(journal.get("1", "base-database-service-23ai", "u1"));
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compressed bodies inflated chunk by chunk, whatever the chunk boundaries.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class DecompressingBodyHandlerTest {
+	private static final String SMALL = "{\"files\":[{\"filename\":\"docs/é.md\"},{\"filename\":\"src/Main.java\"}]}";
+	// inflates to several chunks of the inflater output buffer
+	private static final String LARGE = largeBody();
+
+	private static String largeBody() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 5_000; i++) {
+			sb.append(i == 0 ? "" : ",").append("{\"filename\":\"src/file").append(i * 7919 % 10_007).append(".java\"}");
+		}
+		return sb.append(']').toString();
+	}
+
+	@Test
+	void gzipSplitAtEveryOffset() throws IOException {
+		assertEverySplit("gzip", gzip(SMALL));
+	}
+
+	@Test
+	void gzipHeaderWithOptionalFields() throws IOException {
+		// FHCRC, FEXTRA, FNAME and FCOMMENT, the header itself being split at every offset
+		final ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		gzip.writeBytes(new byte[]{0x1F, (byte) 0x8B, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, (byte) 0xFF});
+		gzip.writeBytes(new byte[]{3, 0, 'a', 'b', 'c'});
+		gzip.writeBytes("body.json\0".getBytes(StandardCharsets.ISO_8859_1));
+		gzip.writeBytes("comment\0".getBytes(StandardCharsets.ISO_8859_1));
+		gzip.writeBytes(new byte[]{0x12, 0x34});
+		final byte[] body = SMALL.getBytes(StandardCharsets.UTF_8);
+		gzip.writeBytes(deflate(body, true));
+		final CRC32 crc = new CRC32();
+		crc.update(body);
+		writeIntLE(gzip, (int) crc.getValue());
+		writeIntLE(gzip, body.length);
+
+		assertEverySplit("gzip", gzip.toByteArray());
+	}
+
+	@Test
+	void deflateSplitAtEveryOffset() throws IOException {
+		// zlib stream, and the raw deflate stream some servers send
+		assertEverySplit("deflate", deflate(SMALL.getBytes(StandardCharsets.UTF_8), false));
+		assertEverySplit("deflate", deflate(SMALL.getBytes(StandardCharsets.UTF_8), true));
+	}
+
+	@Test
+	void largeBodiesOneByteAtATime() throws IOException {
+		final byte[] gzip = gzip(LARGE);
+		assertEquals(LARGE, receive("gzip", chunks(gzip, 1)));
+		assertEquals(LARGE, receive("x-gzip", chunks(gzip, 1000)));
+		assertEquals(LARGE, receive(" GZip ", List.of(List.of(ByteBuffer.wrap(gzip)))));
+		assertEquals(LARGE, receive("deflate", chunks(deflate(LARGE.getBytes(StandardCharsets.UTF_8), false), 1)));
+	}
+
+	@Test
+	void identity() {
+		final List<HttpResponse.BodySubscriber<String>> created = new ArrayList<>();
+		final HttpResponse.BodyHandler<String> handler = responseInfo -> {
+			created.add(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8));
+			return created.get(created.size() - 1);
+		};
+		for (String encoding : new String[]{null, "identity", "br"}) {
+			// passed through untouched
+			assertSame(DecompressingBodyHandler.of(handler).apply(responseInfo(encoding)), created.get(created.size() - 1), encoding);
+		}
+		assertEquals(SMALL, receive(null, chunks(SMALL.getBytes(StandardCharsets.UTF_8), 3)));
+	}
+
+	@Test
+	void emptyBody() {
+		// 304 Not Modified and HEAD responses
+		assertEquals("", receive("gzip", List.of()));
+		assertEquals("", receive("deflate", List.of(List.of(ByteBuffer.allocate(0)))));
+	}
+
+	@Test
+	void truncatedBody() throws IOException {
+		final byte[] gzip = gzip(LARGE);
+		for (int length : new int[]{5, 10, gzip.length / 2}) {
+			final IOException e = assertFailure("gzip", chunks(Arrays.copyOf(gzip, length), 100));
+			assertEquals("Truncated compressed response body", e.getMessage());
+		}
+	}
+
+	@Test
+	void invalidBody() {
+		final byte[] plain = SMALL.getBytes(StandardCharsets.UTF_8);
+		final boolean[] cancelled = new boolean[1];
+		final IOException e = assertFailure("gzip", chunks(plain, 4), cancelled);
+		assertEquals("Response body not in gzip format", e.getMessage());
+		assertTrue(cancelled[0]);
+
+		assertInstanceOf(IOException.class, assertFailure("deflate", chunks(plain, 4)));
+	}
+
+	private static void assertEverySplit(final String encoding, final byte[] body) {
+		for (int split = 0; split <= body.length; split++) {
+			// both chunks in one call, then one call each
+			assertEquals(SMALL, receive(encoding, List.of(List.of(ByteBuffer.wrap(body, 0, split), ByteBuffer.wrap(body, split, body.length - split)))),
+					"split at " + split);
+			assertEquals(SMALL, receive(encoding, List.of(List.of(ByteBuffer.wrap(body, 0, split)), List.of(ByteBuffer.wrap(body, split, body.length - split)))),
+					"split at " + split);
+		}
+		assertEquals(SMALL, receive(encoding, chunks(body, 1)));
+	}
+
+	private static List<List<ByteBuffer>> chunks(final byte[] body, final int size) {
+		final List<List<ByteBuffer>> chunks = new ArrayList<>();
+		for (int i = 0; i < body.length; i += size) {
+			chunks.add(List.of(ByteBuffer.wrap(body, i, Math.min(size, body.length - i))));
+		}
+		return chunks;
+	}
+
+	private static String receive(final String encoding, final List<List<ByteBuffer>> chunks) {
+		return subscribe(encoding, chunks, new boolean[1]).getBody().toCompletableFuture().join();
+	}
+
+	private static IOException assertFailure(final String encoding, final List<List<ByteBuffer>> chunks) {
+		return assertFailure(encoding, chunks, new boolean[1]);
+	}
+
+	private static IOException assertFailure(final String encoding, final List<List<ByteBuffer>> chunks, final boolean[] cancelled) {
+		final HttpResponse.BodySubscriber<String> subscriber = subscribe(encoding, chunks, cancelled);
+		final CompletionException e = assertThrows(CompletionException.class, () -> subscriber.getBody().toCompletableFuture().join());
+		return assertInstanceOf(IOException.class, e.getCause());
+	}
+
+	/**
+	 * Delivers the chunks as the HTTP client does, stopping once the subscription is cancelled.
+	 */
+	private static HttpResponse.BodySubscriber<String> subscribe(final String encoding, final List<List<ByteBuffer>> chunks, final boolean[] cancelled) {
+		final HttpResponse.BodySubscriber<String> subscriber = DecompressingBodyHandler.of(HttpResponse.BodyHandlers.ofString()).apply(responseInfo(encoding));
+		subscriber.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(final long n) {
+			}
+
+			@Override
+			public void cancel() {
+				cancelled[0] = true;
+			}
+		});
+		for (List<ByteBuffer> chunk : chunks) {
+			if (cancelled[0]) {
+				return subscriber;
+			}
+			subscriber.onNext(chunk);
+		}
+		if (!cancelled[0]) {
+			subscriber.onComplete();
+		}
+		return subscriber;
+	}
+
+	private static HttpResponse.ResponseInfo responseInfo(final String encoding) {
+		final HttpHeaders headers = HttpHeaders.of(encoding == null ? Map.of() : Map.of("Content-Encoding", List.of(encoding)), (name, value) -> true);
+		return new HttpResponse.ResponseInfo() {
+			@Override
+			public int statusCode() {
+				return 200;
+			}
+
+			@Override
+			public HttpHeaders headers() {
+				return headers;
+			}
+
+			@Override
+			public HttpClient.Version version() {
+				return HttpClient.Version.HTTP_1_1;
+			}
+		};
+	}
+
+	private static byte[] gzip(final String body) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body.getBytes(StandardCharsets.UTF_8));
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] deflate(final byte[] body, final boolean raw) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+		try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+			deflate.write(body);
+		}
+		finally {
+			deflater.end();
+		}
+		return out.toByteArray();
+	}
+
+	private static void writeIntLE(final ByteArrayOutputStream out, final int value) {
+		out.writeBytes(new byte[]{(byte) value, (byte) (value >> 8), (byte) (value >> 16), (byte) (value >> 24)});
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * GitHub responses cached by URL along with their ETag.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class HttpCacheTest {
+	private static final String FILE_NAME = "testpilot-http-cache.bin";
+
+	@TempDir
+	Path directory;
+
+	private HttpCache cache() {
+		return new HttpCache(directory.toString());
+	}
+
+	private static HttpCache.Entry entry(final String etag, final String next, final String... values) {
+		return new HttpCache.Entry(etag, next, values);
+	}
+
+	private static void assertEntry(final HttpCache.Entry expected, final HttpCache.Entry actual) {
+		assertNotNull(actual);
+		assertEquals(expected.etag(), actual.etag());
+		assertEquals(expected.next(), actual.next());
+		assertArrayEquals(expected.values(), actual.values());
+	}
+
+	@Test
+	void fileRoundTrip() {
+		final HttpCache.Entry first = entry("W/\"1\"", "https://api.github.com/repositories/1/pulls/2/files?page=2", "docs/a.md", "src/é.java");
+		final HttpCache.Entry last = entry("\"2\"", null);
+		final HttpCache cache = cache();
+		cache.put("https://api.github.com/repos/o/r/pulls/2/files", first);
+		cache.put("https://api.github.com/repositories/1/pulls/2/files?page=2", last);
+		cache.save();
+
+		final HttpCache loaded = cache();
+		assertEntry(first, loaded.get("https://api.github.com/repos/o/r/pulls/2/files"));
+		assertEntry(last, loaded.get("https://api.github.com/repositories/1/pulls/2/files?page=2"));
+		assertNull(loaded.get("https://api.github.com/repos/o/r/pulls/3/files"));
+	}
+
+	@Test
+	void responsesWithoutETagAreNotCached() {
+		final HttpCache cache = cache();
+		cache.put("https://api.github.com/repos/o/r/pulls/2/commits", entry(null, null, "a"));
+		assertNull(cache.get("https://api.github.com/repos/o/r/pulls/2/commits"));
+
+		// nothing to save
+		cache.save();
+		assertFalse(Files.exists(directory.resolve(FILE_NAME)));
+	}
+
+	@Test
+	void leastRecentlyUsedEviction() {
+		final HttpCache cache = cache();
+		for (int i = 0; i < HttpCache.MAX_ENTRIES; i++) {
+			cache.put("url" + i, entry("e" + i, null, "v" + i));
+		}
+		// url0 becomes the most recently used entry
+		assertNotNull(cache.get("url0"));
+		cache.save();
+
+		// the access order survives a reload
+		final HttpCache loaded = cache();
+		loaded.put("new", entry("e", null));
+		assertNotNull(loaded.get("url0"));
+		assertNull(loaded.get("url1"));
+		assertNotNull(loaded.get("url2"));
+		assertNotNull(loaded.get("new"));
+
+		loaded.put("newer", entry("e", null));
+		assertNull(loaded.get("url3"));
+		assertNotNull(loaded.get("url4"));
+	}
+
+	@Test
+	void corruptedFile() throws IOException {
+		final Path file = directory.resolve(FILE_NAME);
+		final HttpCache cache = cache();
+		cache.put("url", entry("e", null, "v"));
+		cache.save();
+		final byte[] valid = Files.readAllBytes(file);
+
+		final ByteArrayOutputStream hugeCount = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(hugeCount)) {
+			out.writeInt(0x54504843);
+			out.writeInt(1);
+			out.writeInt(1);
+			out.writeUTF("url");
+			out.writeUTF("e");
+			out.writeBoolean(false);
+			out.writeInt(Integer.MAX_VALUE);
+		}
+
+		for (byte[] content : List.of(new byte[0], "not a cache".getBytes(), Arrays.copyOf(valid, valid.length - 1),
+				Arrays.copyOf(valid, 12), hugeCount.toByteArray())) {
+			Files.write(file, content);
+			final HttpCache corrupted = cache();
+			assertNull(corrupted.get("url"));
+
+			// replaced by the next save
+			corrupted.put("url", entry("e2", null, "v2"));
+			corrupted.save();
+			assertEntry(entry("e2", null, "v2"), cache().get("url"));
+		}
+
+		// an unknown version is ignored too
+		valid[7] = 2;
+		Files.write(file, valid);
+		assertNull(cache().get("url"));
+	}
+
+	@Test
+	void saveLeavesNoTemporaryFile() throws IOException {
+		final HttpCache cache = cache();
+		cache.put("url", entry("e", null));
+		cache.save();
+		cache.put("url", entry("e2", null));
+		cache.save();
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(List.of(directory.resolve(FILE_NAME)), files.toList());
+		}
+	}
+
+	@Test
+	void disabled() {
+		final HttpCache cache = new HttpCache(null);
+		cache.put("url", entry("e", null));
+		assertNull(cache.get("url"));
+		cache.save();
+	}
+}
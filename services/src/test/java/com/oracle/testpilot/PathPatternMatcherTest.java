@@ -0,0 +1,139 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prefixes and globs of <code>--prefix-list</code>.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class PathPatternMatcherTest {
+	@Test
+	void literalPrefixes() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("docs/", "README.md", "", "src/main/resources/static", "src/main/");
+		assertTrue(matcher.matches("docs/guide.md"));
+		assertTrue(matcher.matches("docs/api/index.html"));
+		assertTrue(matcher.matches("README.md"));
+		// prefixes, not whole paths
+		assertTrue(matcher.matches("README.md.orig"));
+		// a longer prefix starting with a shorter one does not hide it
+		assertTrue(matcher.matches("src/main/java/Main.java"));
+
+		assertFalse(matcher.matches("doc/guide.md"));
+		assertFalse(matcher.matches("src/docs/guide.md"));
+		assertFalse(matcher.matches("README"));
+		assertFalse(matcher.matches("src/test/java/MainTest.java"));
+		// the empty pattern is ignored instead of matching everything
+		assertFalse(matcher.matches("pom.xml"));
+		assertFalse(PathPatternMatcher.compile("").matches("pom.xml"));
+	}
+
+	@Test
+	void starAndDoubleStar() {
+		final PathPatternMatcher star = PathPatternMatcher.compile("docs/*.md");
+		assertTrue(star.matches("docs/guide.md"));
+		assertTrue(star.matches("docs/.md"));
+		assertFalse(star.matches("docs/api/guide.md"));
+		// globs match the whole path
+		assertFalse(star.matches("docs/guide.md.orig"));
+
+		final PathPatternMatcher doubleStar = PathPatternMatcher.compile("docs/**.md", "site/**");
+		assertTrue(doubleStar.matches("docs/guide.md"));
+		assertTrue(doubleStar.matches("docs/api/v1/guide.md"));
+		assertTrue(doubleStar.matches("site/a/b/c"));
+		assertFalse(doubleStar.matches("docs/guide.txt"));
+		assertFalse(doubleStar.matches("src/site/index.html"));
+	}
+
+	@Test
+	void doubleStarSlashMatchesZeroDirectories() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("**/*.md", "src/**/test/*.java");
+		assertTrue(matcher.matches("README.md"));
+		assertTrue(matcher.matches("docs/guide.md"));
+		assertTrue(matcher.matches("docs/api/v1/guide.md"));
+		assertTrue(matcher.matches("src/test/MainTest.java"));
+		assertTrue(matcher.matches("src/a/b/test/MainTest.java"));
+
+		assertFalse(matcher.matches("README.txt"));
+		assertFalse(matcher.matches("src/test/a/MainTest.java"));
+		assertFalse(matcher.matches("srctest/MainTest.java"));
+	}
+
+	@Test
+	void questionMark() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("notes/v?.txt");
+		assertTrue(matcher.matches("notes/v1.txt"));
+		assertTrue(matcher.matches("notes/vx.txt"));
+		assertFalse(matcher.matches("notes/v.txt"));
+		assertFalse(matcher.matches("notes/v12.txt"));
+		assertFalse(matcher.matches("notes/v/.txt"));
+	}
+
+	@Test
+	void sets() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("*.[ch]", "v[0-9].txt", "[!a-z]*.log", "bin/[^a-z]");
+		assertTrue(matcher.matches("main.c"));
+		assertTrue(matcher.matches("main.h"));
+		assertTrue(matcher.matches("v7.txt"));
+		assertTrue(matcher.matches("1st.log"));
+		assertTrue(matcher.matches("_.log"));
+		assertTrue(matcher.matches("bin/X"));
+
+		assertFalse(matcher.matches("main.o"));
+		assertFalse(matcher.matches("vx.txt"));
+		assertFalse(matcher.matches("first.log"));
+		assertFalse(matcher.matches("bin/x"));
+		// a set never matches the separator
+		assertFalse(PathPatternMatcher.compile("a[!b]c").matches("a/c"));
+	}
+
+	@Test
+	void unterminatedSetIsLiteral() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("[abc", "x[*");
+		assertTrue(matcher.matches("[abc"));
+		assertTrue(matcher.matches("x[yz"));
+		assertFalse(matcher.matches("a"));
+		assertFalse(matcher.matches("[abcd"));
+	}
+
+	@Test
+	void escapes() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("docs/\\*", "\\[draft]*");
+		assertTrue(matcher.matches("docs/*"));
+		assertTrue(matcher.matches("[draft]notes.md"));
+		assertFalse(matcher.matches("docs/guide.md"));
+		assertFalse(matcher.matches("dnotes.md"));
+
+		// without glob characters, a backslash is part of a prefix
+		final PathPatternMatcher prefix = PathPatternMatcher.compile("docs\\x");
+		assertTrue(prefix.matches("docs\\x"));
+		assertTrue(prefix.matches("docs\\x/guide.md"));
+		assertFalse(prefix.matches("docsx"));
+	}
+
+	@Test
+	void nonAsciiPaths() {
+		final PathPatternMatcher matcher = PathPatternMatcher.compile("文档/", "docs/é*.md", "**/[à-ü]?.txt");
+		assertTrue(matcher.matches("文档/指南.md"));
+		assertTrue(matcher.matches("docs/été.md"));
+		assertTrue(matcher.matches("docs/é.md"));
+		assertTrue(matcher.matches("notes/ün.txt"));
+		// the lazily built transitions are reused
+		assertTrue(matcher.matches("docs/été.md"));
+
+		assertFalse(matcher.matches("文/指南.md"));
+		assertFalse(matcher.matches("docs/ete.md"));
+		assertFalse(matcher.matches("notes/un.txt"));
+		assertFalse(matcher.matches("notes/ü/.txt"));
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import com.oracle.testpilot.exception.TestPilotException;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.oracle.testpilot.exception.TestPilotException.RETRY_LIMIT_REACHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Backoff, <code>Retry-After</code> and limits of the retry policy.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class RetryPolicyTest {
+	@Test
+	void retryAfterSeconds() {
+		assertEquals(120_000, RetryPolicy.parseRetryAfter("120"));
+		assertEquals(5_000, RetryPolicy.parseRetryAfter(" 5 "));
+		assertEquals(0, RetryPolicy.parseRetryAfter("0"));
+		assertEquals(0, RetryPolicy.parseRetryAfter("-3"));
+	}
+
+	@Test
+	void retryAfterHttpDate() {
+		final ZonedDateTime inOneMinute = ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1);
+		final long delay = RetryPolicy.parseRetryAfter(DateTimeFormatter.RFC_1123_DATE_TIME.format(inOneMinute));
+		// the date has a one second precision
+		assertTrue(delay > 58_000 && delay <= 60_000, String.valueOf(delay));
+
+		assertEquals(0, RetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+	}
+
+	@Test
+	void invalidRetryAfter() {
+		for (String value : List.of("", "soon", "1.5", "21 Oct 2015")) {
+			assertEquals(-1, RetryPolicy.parseRetryAfter(value), value);
+		}
+	}
+
+	@Test
+	void onlyConfiguredStatusCodesAreRetried() {
+		final RetryPolicy policy = new RetryPolicy(3, Duration.ofSeconds(10)).retryOn(503, Duration.ZERO, Duration.ZERO);
+		assertTrue(policy.retries(503));
+		assertFalse(policy.retries(500));
+		assertThrows(IllegalArgumentException.class, () -> policy.start().backoff(response(500, null)));
+	}
+
+	@Test
+	void maximumAttempts() throws InterruptedException {
+		final RetryPolicy.Retry retry = new RetryPolicy(3, Duration.ofSeconds(10)).retryOn(503, Duration.ZERO, Duration.ZERO).start();
+		retry.backoff(response(503, null));
+		retry.backoff(response(503, null));
+		final TestPilotException e = assertThrows(TestPilotException.class, () -> retry.backoff(response(503, null)));
+		assertEquals(RETRY_LIMIT_REACHED, e.getErrorCode());
+	}
+
+	@Test
+	void backoffIsCapped() throws InterruptedException {
+		// uncapped, the 25th delay alone would be drawn up to 2^24 milliseconds
+		final RetryPolicy.Retry retry = new RetryPolicy(30, Duration.ofMinutes(1)).retryOn(429, Duration.ofMillis(1), Duration.ofMillis(4)).start();
+		final long start = System.nanoTime();
+		for (int i = 0; i < 25; i++) {
+			retry.backoff(response(429, null));
+		}
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 25 * 4 + 2_000);
+	}
+
+	@Test
+	void retryAfterTakesPrecedence() throws InterruptedException {
+		final RetryPolicy.Retry retry = new RetryPolicy(3, Duration.ofSeconds(10)).retryOn(429, Duration.ofMillis(1), Duration.ofMillis(1)).start();
+		final long start = System.nanoTime();
+		retry.backoff(response(429, "1"));
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 1_000);
+	}
+
+	@Test
+	void totalBudget() {
+		final RetryPolicy.Retry retry = new RetryPolicy(10, Duration.ofMillis(500)).retryOn(429, Duration.ofMillis(1), Duration.ofMillis(1)).start();
+		final long start = System.nanoTime();
+		// waiting would exceed the budget: gives up at once instead of sleeping
+		final TestPilotException e = assertThrows(TestPilotException.class, () -> retry.backoff(response(429, "60")));
+		assertEquals(RETRY_LIMIT_REACHED, e.getErrorCode());
+		assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 500);
+	}
+
+	private static HttpResponse<Void> response(final int statusCode, final String retryAfter) {
+		final HttpHeaders headers = HttpHeaders.of(retryAfter == null ? Map.of() : Map.of("Retry-After", List.of(retryAfter)), (name, value) -> true);
+		return new HttpResponse<>() {
+			@Override
+			public int statusCode() {
+				return statusCode;
+			}
+
+			@Override
+			public HttpRequest request() {
+				return HttpRequest.newBuilder(uri()).build();
+			}
+
+			@Override
+			public Optional<HttpResponse<Void>> previousResponse() {
+				return Optional.empty();
+			}
+
+			@Override
+			public HttpHeaders headers() {
+				return headers;
+			}
+
+			@Override
+			public Void body() {
+				return null;
+			}
+
+			@Override
+			public Optional<SSLSession> sslSession() {
+				return Optional.empty();
+			}
+
+			@Override
+			public URI uri() {
+				return URI.create("https://api.example.com/");
+			}
+
+			@Override
+			public HttpClient.Version version() {
+				return HttpClient.Version.HTTP_1_1;
+			}
+		};
+	}
+}
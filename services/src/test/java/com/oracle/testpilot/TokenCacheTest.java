@@ -0,0 +1,126 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * OAuth2 tokens cached in memory and shared with the following steps of the job through a file.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class TokenCacheTest {
+	@TempDir
+	Path directory;
+
+	private TokenCache cache(final String clientId) {
+		return new TokenCache(directory.toString(), "api.example.com", clientId);
+	}
+
+	private List<Path> files() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.toList();
+		}
+	}
+
+	@Test
+	void expiryMargin() {
+		final TokenCache cache = cache("client");
+		assertNull(cache.get());
+
+		// expires within the margin: could expire in flight
+		cache.put("short", 60L);
+		assertNull(cache.get());
+		assertNull(cache("client").get());
+
+		cache.put("long", 120L);
+		assertEquals("long", cache.get());
+
+		cache.put("expired", 0L);
+		assertNull(cache.get());
+	}
+
+	@Test
+	void persistenceRoundTrip() throws IOException {
+		cache("client").put("token", 3600L);
+
+		// a following step of the job
+		assertEquals("token", cache("client").get());
+		// other credentials
+		assertNull(cache("other").get());
+		assertNull(new TokenCache(directory.toString(), "other.example.com", "client").get());
+
+		final Path file = files().get(0);
+		assertFalse(file.getFileName().toString().contains("example"));
+		assertFalse(file.getFileName().toString().contains("client"));
+		if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+		}
+		// no temporary file left behind
+		assertEquals(1, files().size());
+	}
+
+	@Test
+	void withoutLifetimeInMemoryOnly() throws IOException {
+		final TokenCache cache = cache("client");
+		cache.put("token", null);
+		assertEquals("token", cache.get());
+		assertEquals(List.of(), files());
+		assertNull(cache("client").get());
+	}
+
+	@Test
+	void invalidate() throws IOException {
+		final TokenCache cache = cache("client");
+		cache.put("token", 3600L);
+		cache.invalidate();
+		assertNull(cache.get());
+		assertEquals(List.of(), files());
+		assertNull(cache("client").get());
+
+		// another cache forgetting the persisted token leaves the memory of this one untouched
+		cache("client").put("other", 3600L);
+		cache.put("token", 3600L);
+		cache("client").invalidate();
+		assertEquals("token", cache.get());
+	}
+
+	@Test
+	void unusablePersistedToken() throws IOException {
+		cache("client").put("token", 3600L);
+		final Path file = files().get(0);
+		for (String content : List.of("", "not a number\ntoken\n", "9999999999\n", "9999999999\ntoken\nextra\n")) {
+			Files.writeString(file, content, StandardCharsets.US_ASCII);
+			assertNull(cache("client").get(), content);
+		}
+		Files.writeString(file, "9999999999\ntoken\n", StandardCharsets.US_ASCII);
+		assertEquals("token", cache("client").get());
+	}
+
+	@Test
+	void disabled() {
+		final TokenCache cache = new TokenCache(null, "api.example.com", "client");
+		cache.put("token", 3600L);
+		assertEquals("token", cache.get());
+		cache.invalidate();
+		assertNull(cache.get());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.git;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reads the fixture repositories of <code>src/test/resources/git</code> (see <code>make-fixtures.sh</code>): the
+ * same history stored as loose objects and as 2 packs (offset and object name deltas, 64-bit index offsets).
+ * Expected paths are the ones of <code>git diff --name-only --no-renames</code>.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class GitRepositoryTest {
+	private static final Path FIXTURES = Path.of("src/test/resources/git");
+
+	// C1 -> C2: modified, added, deleted and renamed files, foo turned from a file into a directory
+	private static final List<String> FIRST_PARENT_CHANGES = List.of("README.md", "docs/guide.md", "foo", "foo/bar.txt", "foo0",
+			"new/name.txt", "old/name.txt", "src/App.java", "src/Main.java");
+
+	@TempDir
+	Path workTree;
+
+	/**
+	 * Opens a fixture as the repository of a working tree, through a <code>.git</code> file.
+	 */
+	private GitRepository open(final String fixture) throws IOException {
+		Files.writeString(workTree.resolve(".git"), "gitdir: " + FIXTURES.resolve(fixture).toAbsolutePath() + "\n");
+		return GitRepository.open(workTree);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"loose.git", "packed.git"})
+	void changedPaths(final String fixture) throws IOException {
+		try (GitRepository repository = open(fixture)) {
+			assertEquals(FIRST_PARENT_CHANGES, repository.changedPaths("HEAD~2", "HEAD^1"));
+			assertEquals(FIRST_PARENT_CHANGES, repository.changedPaths("v1", "main^"));
+			assertEquals(List.of("side.txt"), repository.changedPaths("HEAD^1", "HEAD"));
+			assertEquals(FIRST_PARENT_CHANGES, repository.changedPaths("HEAD^2", "HEAD"));
+			assertEquals(List.of(), repository.changedPaths("side~1", "v1"));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"loose.git", "packed.git"})
+	void resolve(final String fixture) throws IOException {
+		try (GitRepository repository = open(fixture)) {
+			final ObjectId first = ObjectId.parse("7db88cfb16cc1d75ecb7b8e65719d8f98da347ed");
+			assertEquals(first, repository.resolve("HEAD~2"));
+			assertEquals(first, repository.resolve("HEAD^1^1"));
+			assertEquals(first, repository.resolve("HEAD^2~"));
+			assertEquals(first, repository.resolve("refs/heads/side^"));
+			// annotated tag, then the commit it points to
+			assertEquals(ObjectId.parse("34a2b29813d13145502018eb54f895c6ee85def0"), repository.resolve("v1"));
+			assertEquals(first, repository.resolve("v1^0"));
+			assertEquals(ObjectId.parse("ea47fbcea7ef18e6099b6b660688b06a5fc5a5a2"), repository.resolve("HEAD^2"));
+			assertEquals(first, repository.resolve(first.toString()));
+
+			assertThrows(IOException.class, () -> repository.resolve("HEAD^3"));
+			assertThrows(IOException.class, () -> repository.resolve("v1~1"));
+			assertThrows(IOException.class, () -> repository.resolve("unknown"));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"loose.git", "packed.git"})
+	void stopsWhenTheConsumerRejectsAPath(final String fixture) throws IOException {
+		try (GitRepository repository = open(fixture)) {
+			final List<String> paths = new ArrayList<>();
+			assertFalse(repository.diff("HEAD~2", "HEAD^1", path -> paths.add(path) && !path.equals("foo")));
+			assertEquals(List.of("README.md", "docs/guide.md", "foo"), paths);
+		}
+	}
+
+	/**
+	 * Every object of the packs, deltified or not, is the same as the loose one.
+	 */
+	@Test
+	void packedObjectsMatchLooseObjects() throws IOException {
+		final List<ObjectId> ids;
+		try (Stream<Path> files = Files.walk(FIXTURES.resolve("loose.git/objects"))) {
+			ids = files.filter(Files::isRegularFile)
+					.map(file -> ObjectId.parse(file.getParent().getFileName().toString() + file.getFileName()))
+					.toList();
+		}
+		assertEquals(30, ids.size());
+
+		try (GitRepository loose = open("loose.git")) {
+			final Path packedTree = Files.createDirectory(workTree.resolve("packed"));
+			Files.writeString(packedTree.resolve(".git"), "gitdir: " + FIXTURES.resolve("packed.git").toAbsolutePath() + "\n");
+			try (GitRepository packed = GitRepository.open(packedTree)) {
+				for (ObjectId id : ids) {
+					final GitObject expected = loose.read(id);
+					final GitObject actual = packed.read(id);
+					assertEquals(expected.type(), actual.type(), id.toString());
+					assertArrayEquals(expected.data(), actual.data(), id.toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	void deltifiedBlobs() throws IOException {
+		try (GitRepository repository = open("packed.git")) {
+			// guides of C1 and C2: the pack of C2 holds one of them as a delta of the other one
+			final String first = new String(repository.read(ObjectId.parse("e524e49387bc5620e705d4fed380dc680c0ea10e")).data(), StandardCharsets.UTF_8);
+			final String second = new String(repository.read(ObjectId.parse("1748fc8b9b6c0bacd2afb598bfa77707c927c51b")).data(), StandardCharsets.UTF_8);
+			assertTrue(first.contains("\nFirst version.\n"));
+			assertTrue(second.contains("\nSecond version.\n"));
+			assertEquals(first.replace("First", "Second"), second);
+		}
+	}
+
+	@Test
+	void notARepository() {
+		assertThrows(IOException.class, () -> GitRepository.open(workTree));
+	}
+}
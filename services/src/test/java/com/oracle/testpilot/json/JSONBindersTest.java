@@ -0,0 +1,179 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The binder generated at compile time and the reflective one must bind the same documents to the same
+ * objects, and reject the same ones, whatever the entry point.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class JSONBindersTest {
+	private static final String DOCUMENT = """
+			{"name":"n\\u00e9","count":12345678901,"size":42,"ratio":2,"enabled":true,"total":null,"tags":["a",null,"b"],
+			"unknown":{"count":"not bound"},"ignored":"no setter",
+			"child":{"name":"child","ratio":0.5,"child":null},
+			"children":[{"name":"first"},null,{"size":-1}],
+			"document":"{\\"name\\":\\"embedded\\",\\"count\\":7}"}
+			""";
+
+	private static final JSONBinder<Sample> REFLECTIVE = new ReflectiveBinder<>(Sample.class);
+
+	private static Sample expected() {
+		final Sample child = new Sample();
+		child.setName("child");
+		child.setRatio(0.5);
+		final Sample first = new Sample();
+		first.setName("first");
+		final Sample third = new Sample();
+		third.setSize(-1);
+		final Sample document = new Sample();
+		document.setName("embedded");
+		document.setCount(7);
+
+		final Sample sample = new Sample();
+		sample.setName("né");
+		sample.setCount(12345678901L);
+		sample.setSize(42);
+		sample.setRatio(2);
+		sample.setEnabled(true);
+		sample.setTags(new String[]{"a", null, "b"});
+		sample.setChild(child);
+		sample.setChildren(new Sample[]{first, null, third});
+		sample.setDocument(document);
+		return sample;
+	}
+
+	@Test
+	void binderIsGenerated() {
+		assertTrue(JSONBinders.isGenerated(Sample.class));
+		assertFalse(JSONBinders.get(Sample.class) instanceof ReflectiveBinder);
+	}
+
+	@Test
+	void generatedAndReflectiveBindersAgree() throws Exception {
+		final Sample expected = expected();
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+		for (JSONBinder<Sample> binder : List.of(JSONBinders.get(Sample.class), REFLECTIVE)) {
+			assertEquals(expected, binder.bind(new JSONReader(bytes)), binder.getClass().getSimpleName());
+			assertEquals(expected, binder.bind(new JSONReader(new JSONParsingTest.OneByteInputStream(bytes))), binder.getClass().getSimpleName());
+			assertEquals(expected, binder.bind(map(JSON.parseJSON(DOCUMENT))), binder.getClass().getSimpleName());
+		}
+	}
+
+	@Test
+	void entryPointsAgree() {
+		final Sample expected = expected();
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+		final JSON<Sample> json = new JSON<>(Sample.class);
+		assertEquals(expected, json.parse(DOCUMENT));
+		assertEquals(expected, json.parse(bytes));
+		assertEquals(expected, json.parse(new JSONParsingTest.OneByteInputStream(bytes)));
+		assertEquals(expected, subscribe(bytes, 1).getResult());
+
+		final String array = "[" + DOCUMENT + ",null," + DOCUMENT + "]";
+		final Sample[] expectedArray = {expected, null, expected};
+		final JSON<Sample[]> arrays = new JSON<>(Sample[].class);
+		assertArrayEquals(expectedArray, arrays.parse(array));
+		assertArrayEquals(expectedArray, arrays.parse(array.getBytes(StandardCharsets.UTF_8)));
+		assertArrayEquals(expectedArray, arrays.parse(new ByteArrayInputStream(array.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	void nullIsRejectedForPrimitiveMembers() throws Exception {
+		for (String member : List.of("count", "size", "ratio", "enabled")) {
+			final String json = "{\"" + member + "\":null}";
+			for (JSONBinder<Sample> binder : List.of(JSONBinders.get(Sample.class), REFLECTIVE)) {
+				final JSON.JSONParseException fromReader = assertThrows(JSON.JSONParseException.class,
+						() -> binder.bind(new JSONReader(json.getBytes(StandardCharsets.UTF_8))), json);
+				assertEquals("Unable to bind Sample." + member + " with value of type null", fromReader.getMessage());
+				final Map<Object, Object> parsed = map(JSON.parseJSON(json));
+				assertThrows(JSON.JSONParseException.class, () -> binder.bind(parsed), json);
+			}
+			assertNull(new JSON<>(Sample.class).parse(json), json);
+			assertInstanceOf(JSON.JSONParseException.class, subscribe(json.getBytes(StandardCharsets.UTF_8), 1).getFailure(), json);
+		}
+
+		// boxed members accept it
+		assertNull(JSONBinders.get(Sample.class).bind(new JSONReader("{\"total\":null}".getBytes(StandardCharsets.UTF_8))).getTotal());
+	}
+
+	@Test
+	void mismatchesAreRejected() throws Exception {
+		for (String json : List.of("{\"name\":1}", "{\"count\":\"1\"}", "{\"size\":2147483648}", "{\"size\":1.5}", "{\"enabled\":0}",
+				"{\"tags\":[1]}", "{\"child\":[]}", "{\"document\":\"{\\\"count\\\":\\\"x\\\"}\"}")) {
+			for (JSONBinder<Sample> binder : List.of(JSONBinders.get(Sample.class), REFLECTIVE)) {
+				assertThrows(JSON.JSONParseException.class, () -> binder.bind(new JSONReader(json.getBytes(StandardCharsets.UTF_8))),
+						binder.getClass().getSimpleName() + " " + json);
+				final Map<Object, Object> parsed = map(JSON.parseJSON(json));
+				assertThrows(JSON.JSONParseException.class, () -> binder.bind(parsed), binder.getClass().getSimpleName() + " " + json);
+			}
+		}
+	}
+
+	@Test
+	void projectionsAgree() {
+		for (String member : List.of("name", "count", "size", "ratio", "enabled", "total", "tags", "child", "children", "document")) {
+			assertNotNull(JSONBinders.get(Sample.class).projection().member(member), member);
+			assertNotNull(REFLECTIVE.projection().member(member), member);
+		}
+		assertNull(JSONBinders.get(Sample.class).projection().member("ignored"));
+		assertNull(REFLECTIVE.projection().member("ignored"));
+		assertNull(JSONBinders.get(Sample.class).projection().member("unknown"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<Object, Object> map(final Object parsed) {
+		return (Map<Object, Object>) parsed;
+	}
+
+	/**
+	 * Feeds the bytes to a subscriber in chunks of the given size, as the HTTP client does.
+	 */
+	static <T> JSONSubscriber<T> subscribe(final JSONSubscriber<T> subscriber, final byte[] bytes, final int chunkSize) {
+		subscriber.onSubscribe(new Flow.Subscription() {
+			@Override
+			public void request(final long n) {
+			}
+
+			@Override
+			public void cancel() {
+			}
+		});
+		final List<ByteBuffer> chunks = new ArrayList<>();
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			chunks.add(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+		}
+		subscriber.onNext(chunks);
+		subscriber.onComplete();
+		return subscriber;
+	}
+
+	private static JSONSubscriber<Sample> subscribe(final byte[] bytes, final int chunkSize) {
+		return subscribe(new JSONSubscriber<>(Sample.class), bytes, chunkSize);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import com.oracle.testpilot.model.Database;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Embedded JSON documents (a string member holding another document, as returned by the create endpoint) are
+ * bound while the enclosing document is parsed, by every entry point.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class JSONEmbeddedTest {
+	private static final String PASSWORD = "p\"w\\d/é😀" + "x".repeat(1000);
+
+	/**
+	 * Returns the create response holding the given database description, escaped as a JSON string.
+	 */
+	private static String response(final String database) {
+		return "{\"status\":\"ok\",\"database\":" + quote(database) + ",\"host\":\"outer\",\"extra\":[\"}\"]}";
+	}
+
+	private static String description() {
+		// members not bound are skipped, even after the bound ones: the embedded reader must drain them
+		return "{\"skipped\":{\"a\":[\"]\"]},\"host\":\"h\",\"service\":\"s\\u00e9\",\"password\":" + quote(PASSWORD)
+				+ ",\"version\":\"23\",\"trailer\":[1,2,{\"b\":null}]}";
+	}
+
+	private static String quote(final String s) {
+		final StringBuilder sb = new StringBuilder("\"");
+		for (char c : s.toCharArray()) {
+			switch (c) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				case '/' -> sb.append("\\/");
+				default -> {
+					if (c > 0x7f) {
+						sb.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						sb.append(c);
+					}
+				}
+			}
+		}
+		return sb.append('"').toString();
+	}
+
+	private static void assertBound(final Database database, final String from) {
+		assertEquals("outer", database.getHost(), from);
+		final Database embedded = database.getDatabase();
+		assertEquals("h", embedded.getHost(), from);
+		assertEquals("sé", embedded.getService(), from);
+		assertEquals(PASSWORD, embedded.getPassword(), from);
+		assertEquals("23", embedded.getVersion(), from);
+		assertNull(embedded.getDatabase(), from);
+	}
+
+	@Test
+	void everyEntryPoint() {
+		final String json = response(description());
+		final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		final JSON<Database> binder = new JSON<>(Database.class);
+		assertBound(binder.parse(json), "String");
+		assertBound(binder.parse(bytes), "byte[]");
+		assertBound(binder.parse(new JSONParsingTest.OneByteInputStream(bytes)), "InputStream");
+		assertBound(JSONBindersTest.subscribe(new JSONSubscriber<>(Database.class), bytes, 1).getResult(), "push");
+		assertBound(JSONBindersTest.subscribe(new JSONSubscriber<>(Database.class), bytes, bytes.length).getResult(), "push");
+	}
+
+	@Test
+	void everyChunkBoundary() throws Exception {
+		final byte[] bytes = response(description()).getBytes(StandardCharsets.UTF_8);
+		for (int split = 1; split < bytes.length; split++) {
+			final JSONSubscriber<Database> subscriber = new JSONSubscriber<>(Database.class);
+			final List<ByteBuffer> chunks = new ArrayList<>();
+			chunks.add(ByteBuffer.wrap(bytes, 0, split));
+			chunks.add(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			subscriber.onNext(chunks);
+			subscriber.onComplete();
+			assertBound(subscriber.getResult(), "split at " + split);
+		}
+	}
+
+	@Test
+	void pushParserReplacesTheString() throws Exception {
+		final byte[] bytes = response(description()).getBytes(StandardCharsets.UTF_8);
+		final JSONPushParser parser = new JSONPushParser(JSONProjection.of(Database.class));
+		parser.feed(ByteBuffer.wrap(bytes));
+		assertEquals(Map.of("host", "outer", "database", Map.of("host", "h", "service", "sé", "password", PASSWORD, "version", "23")),
+				parser.finish());
+
+		// without projection, the string is kept as is
+		final JSONPushParser all = new JSONPushParser();
+		all.feed(ByteBuffer.wrap(bytes));
+		assertEquals(description(), ((Map<?, ?>) all.finish()).get("database"));
+	}
+
+	@Test
+	void nullDocument() {
+		final String json = "{\"database\":null,\"host\":\"outer\"}";
+		final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		final JSON<Database> binder = new JSON<>(Database.class);
+		assertNull(binder.parse(json).getDatabase());
+		assertNull(binder.parse(bytes).getDatabase());
+		assertEquals("outer", binder.parse(bytes).getHost());
+		assertNull(JSONBindersTest.subscribe(new JSONSubscriber<>(Database.class), bytes, 1).getResult().getDatabase());
+	}
+
+	@Test
+	void invalidDocument() {
+		for (String description : List.of("{\"host\":\"h\"", "[\"h\"]", "{\"host\":1}", "not json")) {
+			final String json = response(description);
+			final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			final JSON<Database> binder = new JSON<>(Database.class);
+			assertNull(binder.parse(json), description);
+			assertNull(binder.parse(bytes), description);
+			assertNull(binder.parse(new JSONParsingTest.OneByteInputStream(bytes)), description);
+			assertInstanceOf(JSON.JSONParseException.class, JSONBindersTest.subscribe(new JSONSubscriber<>(Database.class), bytes, 1).getFailure(), description);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The same documents parsed from a String, from bytes, from a stream and pushed chunk by chunk must give the
+ * same tree, whatever the chunk boundaries.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class JSONParsingTest {
+	private static final String DOCUMENT = """
+			{"name":"a\\"b\\\\c\\/d\\b\\f\\n\\r\\t","unicode":"\\u00e9\\u4e2d\\uD83D\\uDE00!","utf8":"é中😀",
+			"long":-1234567890123,"double":-12.5e-3,"exponent":1E+2,"big":123456789012345678901234567890,
+			"literals":[true,false,null],"nested":{"array":[[],{},[1,{"a":"b"}]],"empty":""},"last":0}
+			""";
+
+	private static final Map<Object, Object> EXPECTED = Map.of(
+			"name", "a\"b\\c/d\b\f\n\r\t",
+			"unicode", "é中😀!",
+			"utf8", "é中😀",
+			"long", -1234567890123L,
+			"double", -12.5e-3,
+			"exponent", 100.0,
+			"big", 1.2345678901234568E29,
+			"literals", Arrays.asList(true, false, null),
+			"nested", Map.of("array", List.of(List.of(), Map.of(), List.of(1L, Map.of("a", "b"))), "empty", ""),
+			"last", 0L);
+
+	@Test
+	void escapesAndNumbers() throws Exception {
+		assertEquals(EXPECTED, JSON.parseJSON(DOCUMENT));
+	}
+
+	@Test
+	void entryPointsGiveTheSameTree() throws Exception {
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+		assertEquals(EXPECTED, JSON.parseJSON(DOCUMENT.toCharArray()));
+		assertEquals(EXPECTED, new JSONReader(bytes).readValue());
+		assertEquals(EXPECTED, new JSONReader(new ByteArrayInputStream(bytes)).readValue());
+		assertEquals(EXPECTED, push(bytes, bytes.length));
+	}
+
+	@Test
+	void everyChunkBoundary() throws Exception {
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+		// one byte at a time splits every escape, \\u sequence, multi-byte character, number and literal
+		assertEquals(EXPECTED, push(bytes, 1));
+		assertEquals(EXPECTED, new JSONReader(new OneByteInputStream(bytes)).readValue());
+
+		// any two chunks
+		for (int split = 1; split < bytes.length; split++) {
+			final JSONPushParser parser = new JSONPushParser();
+			parser.feed(ByteBuffer.wrap(bytes, 0, split));
+			parser.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			assertEquals(EXPECTED, parser.finish(), "split at " + split);
+		}
+	}
+
+	@Test
+	void topLevelScalars() throws Exception {
+		for (String json : List.of("42", "-0.5", "\"\\ud83d\\ude00\"", "true", "null")) {
+			final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			final Object expected = JSON.parseJSON(json);
+			assertEquals(expected, new JSONReader(bytes).readValue(), json);
+			assertEquals(expected, new JSONReader(new OneByteInputStream(bytes)).readValue(), json);
+			// a number ending the document is only complete once the end of the input is known
+			assertEquals(expected, push(bytes, 1), json);
+		}
+	}
+
+	@Test
+	void invalidDocuments() {
+		for (String json : List.of("{\"a\":\"\\x\"}", "{\"a\":\"\\u12g4\"}", "{\"a\":tru}", "{\"a\" 1}", "{a:1}", "[1,", "{\"a\":\"b")) {
+			final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+			assertThrows(JSON.JSONParseException.class, () -> JSON.parseJSON(json), json);
+			assertThrows(JSON.JSONParseException.class, () -> new JSONReader(bytes).readValue(), json);
+			assertThrows(JSON.JSONParseException.class, () -> new JSONReader(new OneByteInputStream(bytes)).readValue(), json);
+			assertThrows(JSON.JSONParseException.class, () -> push(bytes, 1), json);
+		}
+	}
+
+	@Test
+	void shortStringsAreDecodedOnce() {
+		final StringTable table = new StringTable();
+		final String modified = table.get("\"modified\"".getBytes(StandardCharsets.UTF_8), 1, 8);
+		assertEquals("modified", modified);
+		assertSame(modified, table.get("modified".getBytes(StandardCharsets.UTF_8), 0, 8));
+		assertEquals("été", table.get("été".getBytes(StandardCharsets.UTF_8), 0, 5));
+
+		final byte[] longer = "x".repeat(StringTable.MAX_LENGTH + 1).getBytes(StandardCharsets.UTF_8);
+		assertNotSame(table.get(longer, 0, longer.length), table.get(longer, 0, longer.length));
+	}
+
+	/**
+	 * Feeds the bytes to a push parser in chunks of the given size.
+	 */
+	private static Object push(final byte[] bytes, final int chunkSize) throws JSON.JSONParseException {
+		final JSONPushParser parser = new JSONPushParser();
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+		}
+		return parser.finish();
+	}
+
+	/**
+	 * Returns at most one byte per read, as a slow network would.
+	 */
+	static final class OneByteInputStream extends FilterInputStream {
+		OneByteInputStream(final byte[] bytes) {
+			super(new ByteArrayInputStream(bytes));
+		}
+
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			return super.read(b, off, Math.min(len, 1));
+		}
+
+		@Override
+		public int read(final byte[] b) throws IOException {
+			return read(b, 0, b.length);
+		}
+	}
+}
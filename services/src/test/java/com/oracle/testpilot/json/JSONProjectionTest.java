@@ -0,0 +1,124 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import com.oracle.testpilot.model.GitHubCommittedFiles;
+import com.oracle.testpilot.model.GitHubFilename;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Members outside of a projection are skipped by every parser, whatever they hold and wherever the chunk
+ * boundaries fall.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+class JSONProjectionTest {
+	// skipped members hold strings with escaped quotes and brackets, nested containers, numbers and literals
+	private static final String DOCUMENT = """
+			{"sha":"abc","stats":{"total":3,"list":[1,-2.5e3,{"a":[{}]}],"ok":true,"none":null},
+			"files":[
+			  {"patch":"@@ \\"}]{[\\\\\\" \\u00e9","filename":"docs/a.md","changes":{"x":[[["]"]]]},"status":"modified"},
+			  {"filename":"src/\\u00e9.java","blob":[true,false,null,"\\\\"],"previous_filename":"src/e.java"}
+			],
+			"trailer":"}"}
+			""";
+
+	private static final Map<Object, Object> FILENAMES = Map.of("files", List.of(
+			Map.of("filename", "docs/a.md"),
+			Map.of("filename", "src/é.java")));
+
+	@Test
+	void pathProjection() throws Exception {
+		assertProjected(FILENAMES, JSONProjection.of("files.filename"));
+		// a scalar is kept as is when a path goes through it
+		assertProjected(Map.of("sha", "abc", "stats", Map.of("ok", true)), JSONProjection.of("sha", "stats.ok.x"));
+		// the last member of a path is kept entirely, even if a longer path selects only part of it
+		assertProjected(Map.of("stats", Map.of("list", List.of(1L, -2500.0, Map.of("a", List.of(Map.of()))))),
+				JSONProjection.of("stats.list", "stats.list.a.b"));
+		assertProjected(Map.of(), JSONProjection.of("missing"));
+	}
+
+	@Test
+	void classProjection() throws Exception {
+		final JSONProjection projection = JSONProjection.of(GitHubCommittedFiles.class);
+		assertSame(projection, JSONProjection.of(GitHubCommittedFiles.class));
+		assertNull(projection.member("sha"));
+		assertNull(projection.member("files").member("patch"));
+
+		assertProjected(Map.of("files", List.of(
+				Map.of("filename", "docs/a.md"),
+				Map.of("filename", "src/é.java", "previous_filename", "src/e.java"))), projection);
+	}
+
+	@Test
+	void allKeepsEverything() throws Exception {
+		assertProjected(JSON.parseJSON(DOCUMENT), JSONProjection.ALL);
+	}
+
+	@Test
+	void arraysAreTransparent() throws Exception {
+		final String array = "[{\"filename\":\"a\",\"patch\":\"[\"},[{\"filename\":\"b\",\"x\":{}}],{}]";
+		final Object expected = List.of(Map.of("filename", "a"), List.of(Map.of("filename", "b")), Map.of());
+		final JSONProjection projection = JSONProjection.of("filename");
+		assertEquals(expected, JSON.parseJSON(array, projection));
+		assertEquals(expected, read(array.getBytes(StandardCharsets.UTF_8), projection));
+		assertEquals(expected, push(array.getBytes(StandardCharsets.UTF_8), projection, 1));
+	}
+
+	@Test
+	void arrayElementsAreHandedOverOnceComplete() throws Exception {
+		final List<String> received = new ArrayList<>();
+		final JSONSubscriber<GitHubCommittedFiles> subscriber = new JSONSubscriber<>(GitHubCommittedFiles.class)
+				.onArrayElement("files", GitHubFilename.class, file -> received.add(file.getFilename()));
+		JSONBindersTest.subscribe(subscriber, DOCUMENT.getBytes(StandardCharsets.UTF_8), 7);
+
+		assertEquals(List.of("docs/a.md", "src/é.java"), received);
+		final GitHubFilename[] files = subscriber.getResult().getFiles();
+		assertEquals(2, files.length);
+		assertEquals("src/e.java", files[1].getPrevious_filename());
+	}
+
+	/**
+	 * Parses the document with every parser, the push parser being fed with every chunk boundary.
+	 */
+	private static void assertProjected(final Object expected, final JSONProjection projection) throws Exception {
+		final byte[] bytes = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+		assertEquals(expected, JSON.parseJSON(DOCUMENT, projection));
+		assertEquals(expected, read(bytes, projection));
+		assertEquals(expected, new JSONReader(new JSONParsingTest.OneByteInputStream(bytes), projection).readValue());
+		assertEquals(expected, push(bytes, projection, 1));
+		for (int split = 1; split < bytes.length; split++) {
+			final JSONPushParser parser = new JSONPushParser(projection);
+			parser.feed(ByteBuffer.wrap(bytes, 0, split));
+			parser.feed(ByteBuffer.wrap(bytes, split, bytes.length - split));
+			assertEquals(expected, parser.finish(), "split at " + split);
+		}
+	}
+
+	private static Object read(final byte[] bytes, final JSONProjection projection) throws Exception {
+		return new JSONReader(bytes, 0, bytes.length, projection).readValue();
+	}
+
+	private static Object push(final byte[] bytes, final JSONProjection projection, final int chunkSize) throws JSON.JSONParseException {
+		final JSONPushParser parser = new JSONPushParser(projection);
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+		}
+		return parser.finish();
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ ** Oracle Test Pilot
+ **
+ ** Copyright (c) 2025 Oracle
+ ** Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+ */
+package com.oracle.testpilot.json;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Model with every kind of member supported by the binders, its generated binder being compared to the
+ * reflective one.
+ *
+ * @author LLEFEVRE
+ * @since 1.0.23
+ */
+@JSONBindable
+public class Sample {
+	private String name;
+	private long count;
+	private int size;
+	private double ratio;
+	private boolean enabled;
+	private Long total;
+	private String[] tags;
+	private Sample child;
+	private Sample[] children;
+	@JSONEmbedded
+	private Sample document;
+	// no setter: never bound
+	private String ignored;
+
+	public Sample() {
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public void setRatio(double ratio) {
+		this.ratio = ratio;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Long getTotal() {
+		return total;
+	}
+
+	public void setTotal(Long total) {
+		this.total = total;
+	}
+
+	public void setTags(String[] tags) {
+		this.tags = tags;
+	}
+
+	public void setChild(Sample child) {
+		this.child = child;
+	}
+
+	public void setChildren(Sample[] children) {
+		this.children = children;
+	}
+
+	public void setDocument(Sample document) {
+		this.document = document;
+	}
+
+	public String getIgnored() {
+		return ignored;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof Sample s && Objects.equals(name, s.name) && count == s.count && size == s.size
+				&& Double.compare(ratio, s.ratio) == 0 && enabled == s.enabled && Objects.equals(total, s.total)
+				&& Arrays.equals(tags, s.tags) && Objects.equals(child, s.child) && Arrays.equals(children, s.children)
+				&& Objects.equals(document, s.document) && Objects.equals(ignored, s.ignored);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(name, count, size);
+	}
+
+	@Override
+	public String toString() {
+		return "Sample{name='" + name + "', count=" + count + ", size=" + size + ", ratio=" + ratio + ", enabled=" + enabled
+				+ ", total=" + total + ", tags=" + Arrays.toString(tags) + ", child=" + child + ", children=" + Arrays.toString(children)
+				+ ", document=" + document + ", ignored=" + ignored + '}';
+	}
+}
@@ -0,0 +1,111 @@
+#!/bin/bash
+#
+# Oracle Test Pilot
+#
+# Copyright (c) 2025 Oracle
+# Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl/
+#
+# Generates the git repositories read by GitRepositoryTest, with fixed dates so that object names do not change:
+#
+# - loose.git: loose objects and references
+# - packed.git: the same objects in 2 packs and packed references
+#   - pack of the first commit, deltas encoded as offsets (OFS_DELTA)
+#   - pack of the other commits, deltas encoded as object names (REF_DELTA), index with 64-bit offsets
+#
+# History (main):
+#
+#   v1 (annotated tag) - C1 ------ C2 ------ M (HEAD)
+#                         \                 /
+#                          S1 (side) ------
+#
+# C1 -> C2: modified, added and deleted files, a renamed file, and foo turned from a file into a directory
+# next to foo.txt and foo0 (tree entries are sorted as if named foo/).
+#
+# Usage: ./make-fixtures.sh (from this directory)
+set -euo pipefail
+
+cd "$(dirname "$0")"
+FIXTURES=$(pwd)
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+export GIT_AUTHOR_NAME=testpilot GIT_AUTHOR_EMAIL=testpilot@example.com
+export GIT_COMMITTER_NAME=testpilot GIT_COMMITTER_EMAIL=testpilot@example.com
+export GIT_CONFIG_NOSYSTEM=1 HOME="$WORK"
+
+commit() {
+	export GIT_AUTHOR_DATE="$1 +0000" GIT_COMMITTER_DATE="$1 +0000"
+	git add -A
+	git commit -q -m "$2"
+}
+
+guide() {
+	for i in $(seq 1 60); do
+		if [ "$i" -eq 30 ]; then echo "$1"; else echo "Line $i of the guide, long enough to be worth a delta."; fi
+	done
+}
+
+cd "$WORK"
+git init -q -b main repository
+cd repository
+git config gc.auto 0
+
+mkdir -p docs keep old src
+echo "# Fixture" > README.md
+guide "First version." > docs/guide.md
+guide "Première version." > docs/guide-fr.md
+echo "file" > foo
+echo "sibling" > foo.txt
+echo "same" > keep/same.txt
+echo "renamed content" > old/name.txt
+echo "class Main {}" > src/Main.java
+commit "2025-01-01T00:00:00" "C1"
+GIT_COMMITTER_DATE="2025-01-01T00:00:00 +0000" git tag -a -m "v1" v1
+
+git checkout -q -b side
+echo "side" > side.txt
+commit "2025-01-02T00:00:00" "S1"
+
+git checkout -q main
+echo "# Fixture, modified" > README.md
+guide "Second version." > docs/guide.md
+rm foo
+mkdir foo
+echo "bar" > foo/bar.txt
+echo "zero" > foo0
+mkdir new
+git mv old/name.txt new/name.txt
+git rm -q src/Main.java
+mkdir -p src
+echo "class App {}" > src/App.java
+commit "2025-01-03T00:00:00" "C2"
+
+export GIT_AUTHOR_DATE="2025-01-04T00:00:00 +0000" GIT_COMMITTER_DATE="2025-01-04T00:00:00 +0000"
+git merge -q --no-ff -m "M" side
+
+# only what GitRepository reads
+bare() {
+	rm -rf "$FIXTURES/$1"
+	mkdir -p "$FIXTURES/$1"
+	cp -r .git/HEAD .git/objects .git/refs "$FIXTURES/$1"
+	rm -rf "$FIXTURES/$1/objects/info"
+}
+
+bare loose.git
+
+bare packed.git
+cd "$FIXTURES/packed.git"
+rm -rf objects/??
+mkdir -p objects/pack
+cd "$WORK/repository"
+FIRST=$(git rev-list --objects v1 | cut -d' ' -f1)
+FIRST_PACK=$( (echo "$FIRST"; git rev-parse v1) | git pack-objects -q --delta-base-offset --window=10 "$FIXTURES/packed.git/objects/pack/pack")
+# the guide of C1 again, base of the deltified guide of C2
+REST_PACK=$( (git rev-list --objects main --not v1 | cut -d' ' -f1; git rev-parse v1:docs/guide.md) | git pack-objects -q --window=10 "$FIXTURES/packed.git/objects/pack/pack")
+git index-pack --index-version=2,0x40 -o "$FIXTURES/packed.git/objects/pack/pack-$REST_PACK.idx" "$FIXTURES/packed.git/objects/pack/pack-$REST_PACK.pack" > /dev/null
+rm -f "$FIXTURES"/packed.git/objects/pack/*.rev
+git pack-refs --all
+rm -rf "$FIXTURES/packed.git/refs"
+cp .git/packed-refs "$FIXTURES/packed.git"
+
+git verify-pack -v "$FIXTURES"/packed.git/objects/pack/*.idx | grep -E "^chain length|^non delta"